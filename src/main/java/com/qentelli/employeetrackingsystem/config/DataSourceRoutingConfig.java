@@ -0,0 +1,73 @@
+package com.qentelli.employeetrackingsystem.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.qentelli.employeetrackingsystem.config.ReadReplicaRoutingDataSource.Route;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Primary/replica datasource wiring. Only active when
+ * app.datasource.replica.enabled=true; otherwise Spring Boot's single
+ * auto-configured datasource is used unchanged.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+	@Bean
+	@Primary
+	@ConfigurationProperties("spring.datasource")
+	public DataSourceProperties primaryDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(
+			@Qualifier("primaryDataSourceProperties") DataSourceProperties primaryDataSourceProperties) {
+		return primaryDataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	@Bean
+	@ConfigurationProperties("app.datasource.replica")
+	public DataSourceProperties replicaDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties("app.datasource.replica.hikari")
+	public HikariDataSource replicaDataSource(
+			@Qualifier("replicaDataSourceProperties") DataSourceProperties replicaDataSourceProperties) {
+		HikariDataSource replica = replicaDataSourceProperties.initializeDataSourceBuilder()
+				.type(HikariDataSource.class).build();
+		replica.setReadOnly(true);
+		return replica;
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+			@Qualifier("replicaDataSource") DataSource replicaDataSource,
+			ReadYourWritesTracker readYourWritesTracker) {
+		ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource(readYourWritesTracker);
+		routingDataSource.setTargetDataSources(Map.of(Route.PRIMARY, primaryDataSource,
+				Route.REPLICA, replicaDataSource));
+		routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+		routingDataSource.afterPropertiesSet();
+
+		// Defer the physical connection until the first statement, by which time
+		// the transaction's read-only flag is visible to the router.
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+}
@@ -0,0 +1,132 @@
+package com.qentelli.employeetrackingsystem.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.UrlPathHelper;
+
+import com.qentelli.employeetrackingsystem.serviceImpl.ResourceFingerprintService;
+import com.qentelli.employeetrackingsystem.serviceImpl.ResourceFingerprintService.Resource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Strong ETags for the read endpoints. The tag is a hash of the fingerprint
+ * of the tables a route reads from, the path, the sorted query parameters and
+ * the Accept header, so it is known before the handler runs: a matching
+ * If-None-Match gets a 304 without running the listing query at all. Routes
+ * that answer relative to today also mix in the date, so a week rollover
+ * changes their tag even when no table did.
+ *
+ * The fingerprint is taken before the handler reads, so a write landing in
+ * between can only pair a newer body with an older tag, which costs the
+ * client one extra download on its next poll and never a stale 304.
+ */
+@Component
+@RequiredArgsConstructor
+public class ETagInterceptor implements HandlerInterceptor {
+
+	/** Tables behind each route; first match wins, an empty set means no ETag. */
+	private static final Map<String, Set<Resource>> ROUTES = new LinkedHashMap<>();
+
+	static {
+		ROUTES.put("/Account/deactivation-jobs/**", Set.of());
+		ROUTES.put("/Account/**", EnumSet.of(Resource.ACCOUNTS, Resource.PROJECTS, Resource.PERSON_PROJECTS,
+				Resource.PERSONS, Resource.REPORTS, Resource.ACCOUNT_COUNTERS, Resource.REPORT_ROLLUPS));
+		ROUTES.put("/projects/**", EnumSet.of(Resource.PROJECTS, Resource.ACCOUNTS));
+		ROUTES.put("/Person/**", EnumSet.of(Resource.PERSONS, Resource.PERSON_PROJECTS, Resource.PROJECTS));
+		ROUTES.put("/weekly-summary/export", Set.of());
+		ROUTES.put("/weekly-summary/**",
+				EnumSet.of(Resource.WEEKLY_SUMMARIES, Resource.WEEKLY_SUMMARY_PROJECTS, Resource.PROJECTS));
+		ROUTES.put("/api/view-report/export", Set.of());
+		ROUTES.put("/api/view-report/ingestion/**", Set.of());
+		// Answered from the search index; a table fingerprint would cost more than the search
+		ROUTES.put("/api/view-report/search/**", Set.of());
+		ROUTES.put("/api/view-report/**", EnumSet.of(Resource.REPORTS, Resource.PERSONS, Resource.PROJECTS,
+				Resource.WEEKLY_SUMMARIES));
+	}
+
+	/** Routes whose answer depends on today's date (current week, last n weeks); the date is part of their tag. */
+	private static final List<String> DATE_RELATIVE = List.of("/Account/**/summary", "/api/view-report/timesheet/**",
+			"/api/view-report/active");
+
+	private final ResourceFingerprintService fingerprintService;
+	private final HttpCacheProperties cacheProperties;
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+	private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (!(handler instanceof HandlerMethod)
+				|| !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))) {
+			return true;
+		}
+		String path = urlPathHelper.getPathWithinApplication(request);
+		Set<Resource> resources = resourcesFor(path);
+		if (resources.isEmpty()) {
+			return true;
+		}
+
+		response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControlFor(path));
+		String fingerprint = fingerprintService.fingerprint(resources);
+		if (isDateRelative(path)) {
+			fingerprint += "|" + LocalDate.now();
+		}
+		String etag = etag(path, request, fingerprint);
+		// Sets the ETag header, and answers 304 when If-None-Match matches it
+		return !new ServletWebRequest(request, response).checkNotModified(etag);
+	}
+
+	private Set<Resource> resourcesFor(String path) {
+		for (Map.Entry<String, Set<Resource>> route : ROUTES.entrySet()) {
+			if (pathMatcher.match(route.getKey(), path)) {
+				return route.getValue();
+			}
+		}
+		return Set.of();
+	}
+
+	private boolean isDateRelative(String path) {
+		return DATE_RELATIVE.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+	}
+
+	private String cacheControlFor(String path) {
+		for (Map.Entry<String, String> rule : cacheProperties.getCacheControl().entrySet()) {
+			if (pathMatcher.match(rule.getKey(), path)) {
+				return rule.getValue();
+			}
+		}
+		return cacheProperties.getDefaultCacheControl();
+	}
+
+	private static String etag(String path, HttpServletRequest request, String fingerprint) {
+		StringBuilder key = new StringBuilder(fingerprint).append('\n').append(path).append('\n');
+		new TreeMap<>(request.getParameterMap())
+				.forEach((name, values) -> key.append(name).append('=').append(Arrays.toString(values)).append('&'));
+		key.append('\n').append(request.getHeader(HttpHeaders.ACCEPT));
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.toString().getBytes(StandardCharsets.UTF_8));
+			return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+}
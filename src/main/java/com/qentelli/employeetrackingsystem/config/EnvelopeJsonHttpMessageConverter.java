@@ -0,0 +1,38 @@
+package com.qentelli.employeetrackingsystem.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.qentelli.employeetrackingsystem.models.client.response.AuthResponse;
+
+/**
+ * JSON converter that keeps one ObjectWriter per AuthResponse type, e.g.
+ * AuthResponse&lt;PaginatedResponse&lt;PersonDTO&gt;&gt;, with its root serializer
+ * already resolved. The stock converter builds a fresh writer and looks the
+ * serializer up again on every response. Writers customized per call (JSON
+ * views, filters, pretty printing) are left alone.
+ */
+public class EnvelopeJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+	private final Map<JavaType, ObjectWriter> envelopeWriters = new ConcurrentHashMap<>();
+
+	public EnvelopeJsonHttpMessageConverter(ObjectMapper objectMapper) {
+		super(objectMapper);
+	}
+
+	@Override
+	protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType contentType) {
+		ObjectMapper objectMapper = getObjectMapper();
+		if (javaType == null || !javaType.hasRawClass(AuthResponse.class)
+				|| writer.getConfig() != objectMapper.getSerializationConfig()) {
+			return writer;
+		}
+		return envelopeWriters.computeIfAbsent(javaType, objectMapper::writerFor);
+	}
+}
@@ -1,10 +1,9 @@
 package com.qentelli.employeetrackingsystem.config;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.qentelli.employeetrackingsystem.entity.TechStack;
 
 import java.io.IOException;
@@ -16,16 +15,19 @@ public class FlexibleEnumListDeserializer extends JsonDeserializer<List<TechStac
 
     @Override
     public List<TechStack> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        ObjectCodec codec = p.getCodec();
-        JsonNode node = codec.readTree(p);
+        // Reads tokens directly instead of materializing a JsonNode tree first
         List<TechStack> result = new ArrayList<>();
 
-        if (node.isArray()) {
-            for (JsonNode item : node) {
-                result.add(normalizeEnum(item.asText()));
+        if (p.isExpectedStartArrayToken()) {
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (token.isStructStart()) {
+                    throw new IllegalArgumentException("techStack must be a string or an array of strings");
+                }
+                result.add(normalizeEnum(p.getValueAsString("")));
             }
-        } else if (node.isTextual()) {
-            result.add(normalizeEnum(node.asText()));
+        } else if (p.currentToken() == JsonToken.VALUE_STRING) {
+            result.add(normalizeEnum(p.getText()));
         } else {
             throw new IllegalArgumentException("techStack must be a string or an array of strings");
         }
@@ -43,4 +45,4 @@ public class FlexibleEnumListDeserializer extends JsonDeserializer<List<TechStac
             );
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,36 @@
+package com.qentelli.employeetrackingsystem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+
+/**
+ * Limits on GraphQL queries, checked before any resolver runs. A field costs
+ * one plus its children, multiplied by its size (root pages) or first (list
+ * associations) argument when it has one: a page of 100 with five scalar
+ * fields costs about 600, and persons(size: 20) { reports { taskName } } costs
+ * 20 * (1 + 20 * 2) = 820 with the default first of 20. Per-field timings
+ * come from Spring Boot's observation support (graphql.datafetcher metric).
+ */
+@Configuration
+public class GraphQlConfig {
+
+	@Bean
+	public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(
+			@Value("${app.graphql.max-depth:8}") int maxDepth) {
+		return new MaxQueryDepthInstrumentation(maxDepth);
+	}
+
+	@Bean
+	public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+			@Value("${app.graphql.max-complexity:2000}") int maxComplexity) {
+		return new MaxQueryComplexityInstrumentation(maxComplexity, (environment, childComplexity) -> {
+			Object size = environment.getArguments().getOrDefault("size", environment.getArguments().get("first"));
+			int multiplier = size instanceof Integer n ? Math.max(n, 1) : 1;
+			return multiplier * (1 + childComplexity);
+		});
+	}
+}
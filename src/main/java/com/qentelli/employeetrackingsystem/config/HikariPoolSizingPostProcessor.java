@@ -0,0 +1,38 @@
+package com.qentelli.employeetrackingsystem.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Sizes every Hikari pool from the number of available cores instead of the
+ * fixed default of 10 (cores * pool-size-per-core + 1).
+ */
+@Component
+@Profile("tuned")
+public class HikariPoolSizingPostProcessor implements BeanPostProcessor {
+
+	private static final Logger logger = LoggerFactory.getLogger(HikariPoolSizingPostProcessor.class);
+
+	private final int poolSizePerCore;
+
+	public HikariPoolSizingPostProcessor(@Value("${app.datasource.pool-size-per-core:2}") int poolSizePerCore) {
+		this.poolSizePerCore = poolSizePerCore;
+	}
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) {
+		if (bean instanceof HikariDataSource hikari) {
+			int cores = Runtime.getRuntime().availableProcessors();
+			int poolSize = cores * poolSizePerCore + 1;
+			hikari.setMaximumPoolSize(poolSize);
+			logger.info("Sizing pool {} to {} connections for {} cores", beanName, poolSize, cores);
+		}
+		return bean;
+	}
+}
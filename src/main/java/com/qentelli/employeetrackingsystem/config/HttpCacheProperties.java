@@ -0,0 +1,22 @@
+package com.qentelli.employeetrackingsystem.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Cache-Control for the GET endpoints that carry an ETag. Keys of
+ * cacheControl are Ant-style path patterns, checked in order; requests
+ * matching none get defaultCacheControl.
+ */
+@Data
+@ConfigurationProperties("app.http-cache")
+public class HttpCacheProperties {
+
+	private String defaultCacheControl = "private, no-cache";
+
+	private Map<String, String> cacheControl = new LinkedHashMap<>();
+}
@@ -0,0 +1,28 @@
+package com.qentelli.employeetrackingsystem.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Jackson tuning for the API. Boot registers every Module bean with the
+ * shared ObjectMapper; Blackbird replaces reflective getter/setter calls with
+ * generated lambdas. The converter bean replaces Boot's default JSON converter.
+ */
+@Configuration
+public class JacksonConfig {
+
+	@Bean
+	public Module blackbirdModule() {
+		return new BlackbirdModule();
+	}
+
+	@Bean
+	public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+		return new EnvelopeJsonHttpMessageConverter(objectMapper);
+	}
+}
@@ -0,0 +1,86 @@
+package com.qentelli.employeetrackingsystem.config;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Unique (owner, project) constraints on the project join tables. The link
+ * queries in PersonRepository and WeeklySummaryRepository insert with
+ * ON CONFLICT (..., project_id) DO NOTHING, which PostgreSQL rejects unless
+ * such a constraint exists, and Hibernate's schema update cannot add one to a
+ * table that already holds duplicate rows.
+ *
+ * The constraint is declared here only, not on the entity mappings, so the
+ * schema update does not add a second, identically-keyed one under a
+ * generated name. For each table this removes duplicate links (keeping one
+ * row per pair) and adds the constraint, in one transaction that holds off
+ * concurrent writers, and drops any other unique constraint on the same pair.
+ * It runs while the context starts, after the EntityManagerFactory has
+ * updated the schema but before the web server takes requests; a failure
+ * stops startup, since every link write would fail without the constraint.
+ */
+@Component
+@RequiredArgsConstructor
+public class JoinTableConstraintMigration {
+
+	private static final Logger logger = LoggerFactory.getLogger(JoinTableConstraintMigration.class);
+
+	private record JoinTable(String table, String ownerColumn, String constraint) {
+	}
+
+	private static final List<JoinTable> TABLES = List.of(
+			new JoinTable("person_project", "person_id", "uk_person_project"),
+			new JoinTable("weekly_summary_project", "week_id", "uk_weekly_summary_project"));
+
+	private static final String HAS_CONSTRAINT = "SELECT count(*) FROM pg_constraint "
+			+ "WHERE conrelid = to_regclass(?) AND conname = ?";
+
+	// Other unique constraints on exactly (owner, project_id), e.g. one Hibernate generated from an earlier mapping
+	private static final String OTHER_CONSTRAINTS = "SELECT c.conname FROM pg_constraint c "
+			+ "CROSS JOIN LATERAL (SELECT array_agg(a.attname::text) AS names FROM pg_attribute a "
+			+ "  WHERE a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)) k "
+			+ "WHERE c.conrelid = to_regclass(?) AND c.contype = 'u' AND c.conname <> ? "
+			+ "AND k.names @> ARRAY[?, 'project_id'] AND k.names <@ ARRAY[?, 'project_id']";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final PlatformTransactionManager transactionManager;
+	// Injected so the schema update has created the join tables before this runs
+	private final EntityManagerFactory entityManagerFactory;
+
+	@PostConstruct
+	void migrate() {
+		TransactionTemplate tx = new TransactionTemplate(transactionManager);
+		for (JoinTable join : TABLES) {
+			tx.executeWithoutResult(status -> migrate(join));
+		}
+	}
+
+	private void migrate(JoinTable join) {
+		Long existing = jdbcTemplate.queryForObject(HAS_CONSTRAINT, Long.class, join.table(), join.constraint());
+		if (existing == null || existing == 0) {
+			jdbcTemplate.execute("LOCK TABLE " + join.table() + " IN SHARE ROW EXCLUSIVE MODE");
+			int removed = jdbcTemplate.update("DELETE FROM " + join.table() + " a USING " + join.table() + " b "
+					+ "WHERE a." + join.ownerColumn() + " = b." + join.ownerColumn() + " "
+					+ "AND a.project_id = b.project_id AND a.ctid > b.ctid");
+			jdbcTemplate.execute("ALTER TABLE " + join.table() + " ADD CONSTRAINT " + join.constraint()
+					+ " UNIQUE (" + join.ownerColumn() + ", project_id)");
+			logger.info("Removed {} duplicate rows from {} and added {}", removed, join.table(), join.constraint());
+		}
+		// A second identical index would only double the cost of every link write
+		for (String other : jdbcTemplate.queryForList(OTHER_CONSTRAINTS, String.class, join.table(),
+				join.constraint(), join.ownerColumn(), join.ownerColumn())) {
+			jdbcTemplate.execute("ALTER TABLE " + join.table() + " DROP CONSTRAINT \"" + other + "\"");
+			logger.info("Dropped duplicate unique constraint {} on {}", other, join.table());
+		}
+	}
+}
@@ -32,7 +32,9 @@ protected boolean shouldNotFilter(HttpServletRequest request) throws ServletExce
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-    	 System.out.println("JwtFilter processing path=" + request.getRequestURI());
+        if (logger.isDebugEnabled()) {
+            logger.debug("JwtFilter processing path=" + request.getRequestURI());
+        }
         String authHeader = request.getHeader("Authorization");
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
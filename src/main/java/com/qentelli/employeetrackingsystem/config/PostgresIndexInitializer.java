@@ -0,0 +1,94 @@
+package com.qentelli.employeetrackingsystem.config;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PostgreSQL-only indexes that JPA annotations cannot express. Runs after
+ * Hibernate has created/updated the tables; every statement is idempotent and
+ * built CONCURRENTLY so a restart against a populated database does not block
+ * writes. An index left INVALID by an interrupted build is dropped and built
+ * again. A failure (e.g. no privilege to create the extension) is logged and
+ * the affected searches simply fall back to sequential scans.
+ *
+ * The trigram expressions must stay identical to the ones in the repository
+ * queries, otherwise the planner will not use them: upper(...) is what Spring
+ * Data generates for the ContainingIgnoreCase finders. The task period index
+ * only covers reports with a usable period, so rows whose end date precedes
+ * the start date never make daterange() fail on insert.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.postgres-indexes", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PostgresIndexInitializer implements ApplicationRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(PostgresIndexInitializer.class);
+
+	private static final List<String> STATEMENTS = List.of(
+			"CREATE EXTENSION IF NOT EXISTS pg_trgm",
+			"CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_person_first_name_trgm "
+					+ "ON person USING gin (upper(first_name) gin_trgm_ops)",
+			"CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_person_last_name_trgm "
+					+ "ON person USING gin (upper(last_name) gin_trgm_ops)",
+			"CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_person_full_name_trgm "
+					+ "ON person USING gin (upper(coalesce(first_name, '') || ' ' || coalesce(last_name, '')) gin_trgm_ops)",
+			"CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_project_name_trgm "
+					+ "ON project USING gin (upper(project_name) gin_trgm_ops)",
+			"CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_account_name_trgm "
+					+ "ON account USING gin (upper(account_name) gin_trgm_ops)",
+			// Task periods for the overlap queries; expression and predicate as in ReportOverlapService
+			"CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_view_reports_task_period "
+					+ "ON view_reports USING gist (daterange(task_start_date, task_end_date, '[]')) "
+					+ "WHERE task_start_date IS NOT NULL "
+					+ "AND (task_end_date IS NULL OR task_end_date >= task_start_date) "
+					+ "AND (soft_delete IS NULL OR soft_delete = false)");
+
+	private static final Pattern INDEX_NAME = Pattern.compile("CREATE INDEX CONCURRENTLY IF NOT EXISTS (\\w+) ");
+
+	private static final String IS_INVALID = "SELECT count(*) FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid "
+			+ "WHERE c.relname = ? AND c.relnamespace = to_regnamespace(current_schema()) AND NOT i.indisvalid";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		for (String statement : STATEMENTS) {
+			try {
+				dropIfInvalid(statement);
+				jdbcTemplate.execute(statement);
+			} catch (DataAccessException ex) {
+				logger.warn("Could not apply '{}': {}", statement, ex.getMostSpecificCause().getMessage());
+			}
+		}
+		logger.info("PostgreSQL search and range indexes checked");
+	}
+
+	/**
+	 * A CONCURRENTLY build that failed part way (deadlock, cancelled, unique
+	 * violation) leaves an INVALID index behind that IF NOT EXISTS would
+	 * skip on every later start; drop it so the statement builds it again.
+	 */
+	private void dropIfInvalid(String statement) {
+		Matcher name = INDEX_NAME.matcher(statement);
+		if (!name.find()) {
+			return;
+		}
+		Long invalid = jdbcTemplate.queryForObject(IS_INVALID, Long.class, name.group(1));
+		if (invalid != null && invalid > 0) {
+			logger.warn("Index {} is invalid after an earlier failed build; dropping and recreating it", name.group(1));
+			jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + name.group(1));
+		}
+	}
+}
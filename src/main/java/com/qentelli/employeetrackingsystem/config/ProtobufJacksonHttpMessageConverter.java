@@ -0,0 +1,81 @@
+package com.qentelli.employeetrackingsystem.config;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schemagen.ProtobufSchemaGenerator;
+
+/**
+ * application/x-protobuf for the existing DTOs. Jackson derives a .proto
+ * schema from each request/response type the first time it is seen and
+ * keeps it, so the controllers need no generated message classes. Types
+ * without a protobuf shape (AuthResponse&lt;?&gt;, Map payloads) are
+ * reported as unsupported, so content negotiation answers 406 (or 415 for
+ * request bodies) instead of failing while writing.
+ */
+public class ProtobufJacksonHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+	public static final MediaType APPLICATION_PROTOBUF = MediaType.valueOf("application/x-protobuf");
+
+	private final Map<JavaType, Optional<ProtobufSchema>> schemas = new ConcurrentHashMap<>();
+
+	public ProtobufJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+		super(objectMapper, APPLICATION_PROTOBUF);
+		if (!(objectMapper.getFactory() instanceof ProtobufFactory)) {
+			throw new IllegalArgumentException("ObjectMapper must be configured with a ProtobufFactory");
+		}
+	}
+
+	@Override
+	public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+		return super.canRead(type, contextClass, mediaType)
+				&& schemaFor(getJavaType(type, contextClass)).isPresent();
+	}
+
+	@Override
+	public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+		return canWrite(clazz, mediaType) && schemaFor(getJavaType(type != null ? type : clazz, null)).isPresent();
+	}
+
+	@Override
+	protected ObjectReader customizeReader(ObjectReader reader, JavaType javaType) {
+		// canRead has already checked that the schema exists
+		return reader.with(schemaFor(javaType)
+				.orElseThrow(() -> new IllegalStateException("No protobuf schema for " + javaType)));
+	}
+
+	@Override
+	protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType contentType) {
+		if (javaType == null) {
+			throw new HttpMessageNotWritableException("Cannot derive a protobuf schema without a declared type");
+		}
+		return writer.forType(javaType).with(schemaFor(javaType)
+				.orElseThrow(() -> new HttpMessageNotWritableException("No protobuf schema for " + javaType)));
+	}
+
+	private Optional<ProtobufSchema> schemaFor(JavaType javaType) {
+		return schemas.computeIfAbsent(javaType, type -> {
+			try {
+				ProtobufSchemaGenerator generator = new ProtobufSchemaGenerator();
+				getObjectMapper().acceptJsonFormatVisitor(type, generator);
+				return Optional.of(generator.getGeneratedSchema());
+			} catch (JsonMappingException | RuntimeException ex) {
+				logger.debug("No protobuf schema for " + type + ": " + ex.getMessage());
+				return Optional.empty();
+			}
+		});
+	}
+}
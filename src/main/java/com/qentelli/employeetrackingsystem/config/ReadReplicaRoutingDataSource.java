@@ -0,0 +1,56 @@
+package com.qentelli.employeetrackingsystem.config;
+
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the
+ * primary. Must be wrapped in a LazyConnectionDataSourceProxy so the lookup
+ * happens after the transaction's read-only flag has been bound.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+	public enum Route {
+		PRIMARY, REPLICA
+	}
+
+	private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+	private final ReadYourWritesTracker readYourWritesTracker;
+
+	public ReadReplicaRoutingDataSource(ReadYourWritesTracker readYourWritesTracker) {
+		this.readYourWritesTracker = readYourWritesTracker;
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			return Route.PRIMARY;
+		}
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return FORCE_PRIMARY.get() != null || readYourWritesTracker.isWithinWindow() ? Route.PRIMARY
+					: Route.REPLICA;
+		}
+		readYourWritesTracker.recordWrite();
+		return Route.PRIMARY;
+	}
+
+	/**
+	 * Runs the action with read-only transactions opened inside it sent to the
+	 * primary, for reads that must see a write that just committed. Without a
+	 * replica configured everything goes to the primary anyway.
+	 */
+	public static <T> T onPrimary(Supplier<T> action) {
+		Boolean previous = FORCE_PRIMARY.get();
+		FORCE_PRIMARY.set(Boolean.TRUE);
+		try {
+			return action.get();
+		} finally {
+			if (previous == null) {
+				FORCE_PRIMARY.remove();
+			}
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package com.qentelli.employeetrackingsystem.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers when each user last wrote to the primary so that their reads stay
+ * on the primary until the replica has had time to catch up.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadYourWritesTracker {
+
+	private final Map<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+	private final long windowMillis;
+
+	public ReadYourWritesTracker(
+			@Value("${app.datasource.replica.read-your-writes-window:5s}") Duration readYourWritesWindow) {
+		this.windowMillis = readYourWritesWindow.toMillis();
+	}
+
+	public void recordWrite() {
+		String user = currentUser();
+		if (user != null) {
+			lastWriteByUser.put(user, System.currentTimeMillis());
+		}
+	}
+
+	public boolean isWithinWindow() {
+		String user = currentUser();
+		if (user == null) {
+			return false;
+		}
+		Long lastWrite = lastWriteByUser.get(user);
+		if (lastWrite == null) {
+			return false;
+		}
+		if (System.currentTimeMillis() - lastWrite > windowMillis) {
+			lastWriteByUser.remove(user, lastWrite);
+			return false;
+		}
+		return true;
+	}
+
+	private String currentUser() {
+		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+		return auth != null && auth.isAuthenticated() ? auth.getName() : null;
+	}
+}
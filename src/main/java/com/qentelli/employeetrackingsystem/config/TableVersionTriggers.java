@@ -0,0 +1,87 @@
+package com.qentelli.employeetrackingsystem.config;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Per-table version counters behind the ETag fingerprints
+ * (ResourceFingerprintService): table_version holds one row per table,
+ * bumped by a trigger whenever a transaction inserts, updates or deletes rows
+ * in it. Triggers see every write, including the native bulk statements that
+ * bypass JPA, and reading a version is a primary-key lookup.
+ *
+ * The triggers are deferred to commit and bump each table once per
+ * transaction, so the version row is locked only while the transaction
+ * commits. The first bump of a transaction takes one advisory lock shared by
+ * all writers; two transactions touching the same tables in a different
+ * order therefore queue instead of deadlocking on the version rows. The bump
+ * commits together with the data, so a reader never sees a new version
+ * without the rows that caused it.
+ *
+ * Runs while the context starts, after the schema update and before the web
+ * server takes requests; without the triggers no tag would ever change, so a
+ * failure stops startup.
+ */
+@Component
+@RequiredArgsConstructor
+public class TableVersionTriggers {
+
+	private static final Logger logger = LoggerFactory.getLogger(TableVersionTriggers.class);
+
+	private static final List<String> TABLES = List.of("account", "project", "person", "person_project",
+			"weekly_summary", "weekly_summary_project", "view_reports", "account_counter", "report_status_rollup");
+
+	private static final String TRIGGER = "table_version_bump";
+
+	private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS table_version ("
+			+ "table_name text PRIMARY KEY, version bigint NOT NULL)";
+
+	private static final String CREATE_FUNCTION = "CREATE OR REPLACE FUNCTION bump_table_version() "
+			+ "RETURNS trigger LANGUAGE plpgsql AS $$ "
+			+ "BEGIN "
+			+ "  IF current_setting('table_version.' || TG_TABLE_NAME, true) IS DISTINCT FROM 'bumped' THEN "
+			+ "    PERFORM set_config('table_version.' || TG_TABLE_NAME, 'bumped', true); "
+			+ "    PERFORM pg_advisory_xact_lock(hashtext('table_version')); "
+			+ "    INSERT INTO table_version (table_name, version) VALUES (TG_TABLE_NAME, 1) "
+			+ "      ON CONFLICT (table_name) DO UPDATE SET version = table_version.version + 1; "
+			+ "  END IF; "
+			+ "  RETURN NULL; "
+			+ "END $$";
+
+	private static final String HAS_TRIGGER = "SELECT count(*) FROM pg_trigger "
+			+ "WHERE tgrelid = to_regclass(?) AND tgname = '" + TRIGGER + "'";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final PlatformTransactionManager transactionManager;
+	// Injected so the schema update has created the tables before this runs
+	private final EntityManagerFactory entityManagerFactory;
+
+	@PostConstruct
+	void install() {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			jdbcTemplate.execute(CREATE_TABLE);
+			jdbcTemplate.execute(CREATE_FUNCTION);
+			for (String table : TABLES) {
+				jdbcTemplate.update("INSERT INTO table_version (table_name, version) VALUES (?, 0) "
+						+ "ON CONFLICT (table_name) DO NOTHING", table);
+				Long existing = jdbcTemplate.queryForObject(HAS_TRIGGER, Long.class, table);
+				if (existing == null || existing == 0) {
+					// Constraint triggers have no IF NOT EXISTS / OR REPLACE; hence the check above
+					jdbcTemplate.execute("CREATE CONSTRAINT TRIGGER " + TRIGGER + " AFTER INSERT OR UPDATE OR DELETE ON "
+							+ table + " DEFERRABLE INITIALLY DEFERRED FOR EACH ROW EXECUTE FUNCTION bump_table_version()");
+					logger.info("Installed table version trigger on {}", table);
+				}
+			}
+		});
+	}
+}
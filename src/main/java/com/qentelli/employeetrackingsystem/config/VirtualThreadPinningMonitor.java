@@ -0,0 +1,92 @@
+package com.qentelli.employeetrackingsystem.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Streams the JFR jdk.VirtualThreadPinned event in-process and logs each pin
+ * with the frames that held the carrier thread, so synchronized blocks on the
+ * request path show up without attaching a profiler. The count is published
+ * as the jvm.threads.virtual.pinned metric. On runtimes before Java 21 the
+ * event does not exist and the stream simply stays idle.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.virtual-threads.pinning-monitor", name = "enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+	private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final int LOGGED_FRAMES = 12;
+
+	private final Duration threshold;
+	private final Counter pinnedCounter;
+	private volatile RecordingStream stream;
+
+	public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+			@Value("${app.virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold) {
+		this.threshold = threshold;
+		this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+				.description("Virtual threads that blocked while pinned to their carrier").register(meterRegistry);
+	}
+
+	@Override
+	public void start() {
+		stream = new RecordingStream();
+		stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+		stream.onEvent(PINNED_EVENT, this::report);
+		stream.startAsync();
+		logger.info("Reporting virtual thread pinning longer than {} ms", threshold.toMillis());
+	}
+
+	@Override
+	public void stop() {
+		if (stream != null) {
+			stream.close();
+			stream = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return stream != null;
+	}
+
+	private void report(RecordedEvent event) {
+		pinnedCounter.increment();
+		String thread = event.getThread() != null ? event.getThread().getJavaName() : "unknown";
+		logger.warn("Virtual thread {} pinned its carrier for {} ms at:{}", thread, event.getDuration().toMillis(),
+				frames(event.getStackTrace()));
+	}
+
+	private static String frames(RecordedStackTrace stackTrace) {
+		if (stackTrace == null) {
+			return " (no stack trace)";
+		}
+		StringBuilder text = new StringBuilder();
+		List<RecordedFrame> frames = stackTrace.getFrames();
+		for (int i = 0; i < Math.min(frames.size(), LOGGED_FRAMES); i++) {
+			RecordedFrame frame = frames.get(i);
+			text.append("\n\tat ").append(frame.getMethod().getType().getName()).append('.')
+					.append(frame.getMethod().getName()).append(':').append(frame.getLineNumber());
+		}
+		if (frames.size() > LOGGED_FRAMES) {
+			text.append("\n\t... ").append(frames.size() - LOGGED_FRAMES).append(" more");
+		}
+		return text.toString();
+	}
+}
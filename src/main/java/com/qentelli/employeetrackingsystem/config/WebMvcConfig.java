@@ -0,0 +1,69 @@
+package com.qentelli.employeetrackingsystem.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(HttpCacheProperties.class)
+public class WebMvcConfig implements WebMvcConfigurer {
+
+	private final ETagInterceptor etagInterceptor;
+	private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(etagInterceptor).addPathPatterns("/Account/**", "/projects/**", "/Person/**",
+				"/weekly-summary/**", "/api/view-report/**");
+	}
+
+	/**
+	 * Binary formats for clients that ask for them in Accept. Spring MVC
+	 * already registers a CBOR converter with a mapper of its own (no
+	 * spring.jackson settings, dates as timestamps); it is swapped in place
+	 * for one built from Boot's builder. Protobuf goes after the JSON
+	 * converter so JSON stays the default for wildcard or missing Accept
+	 * headers. Both mappers share the JSON mapper's modules and settings.
+	 */
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		MappingJackson2CborHttpMessageConverter cbor = cborConverter(objectMapperBuilder);
+		int defaultCbor = indexOf(converters, MappingJackson2CborHttpMessageConverter.class);
+		if (defaultCbor >= 0) {
+			converters.set(defaultCbor, cbor);
+		} else {
+			converters.add(indexOf(converters, MappingJackson2HttpMessageConverter.class) + 1, cbor);
+		}
+		converters.add(protobufConverter(objectMapperBuilder));
+	}
+
+	public static MappingJackson2CborHttpMessageConverter cborConverter(Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+	}
+
+	public static ProtobufJacksonHttpMessageConverter protobufConverter(Jackson2ObjectMapperBuilder builder) {
+		return new ProtobufJacksonHttpMessageConverter(builder.factory(new ProtobufFactory()).build());
+	}
+
+	private static int indexOf(List<HttpMessageConverter<?>> converters, Class<?> type) {
+		for (int i = 0; i < converters.size(); i++) {
+			if (type.isInstance(converters.get(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
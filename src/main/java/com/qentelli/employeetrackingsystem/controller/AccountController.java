@@ -2,6 +2,7 @@ package com.qentelli.employeetrackingsystem.controller;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
@@ -25,9 +26,15 @@ import org.springframework.web.bind.annotation.RestController;
 import com.qentelli.employeetrackingsystem.entity.Account;
 import com.qentelli.employeetrackingsystem.exception.RequestProcessStatus;
 import com.qentelli.employeetrackingsystem.models.client.request.AccountDetailsDto;
+import com.qentelli.employeetrackingsystem.models.client.response.BatchResponse;
+import com.qentelli.employeetrackingsystem.models.client.response.AccountDeactivationResponse;
+import com.qentelli.employeetrackingsystem.models.client.response.AccountSummaryResponse;
 import com.qentelli.employeetrackingsystem.models.client.response.AuthResponse;
 import com.qentelli.employeetrackingsystem.models.client.response.PaginatedResponse;
+import com.qentelli.employeetrackingsystem.serviceImpl.SparseFieldsetService;
+import com.qentelli.employeetrackingsystem.serviceImpl.AccountDeactivationJobService;
 import com.qentelli.employeetrackingsystem.serviceImpl.AccountService;
+import com.qentelli.employeetrackingsystem.serviceImpl.AccountSummaryService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -40,6 +47,9 @@ public class AccountController {
 	private static final Logger logger = LoggerFactory.getLogger(AccountController.class);
 
 	private final AccountService accountService;
+	private final AccountSummaryService accountSummaryService;
+	private final AccountDeactivationJobService accountDeactivationJobService;
+	private final SparseFieldsetService sparseFieldsetService;
 	private final ModelMapper modelMapper;
 
 	@PostMapping
@@ -90,6 +100,95 @@ public class AccountController {
 	    return ResponseEntity.ok(response);
 	}
 
+	// e.g. GET /Account/batch?ids=3,1,7 - one query, results in request order, unknown ids reported
+	@GetMapping("/batch")
+	public ResponseEntity<AuthResponse<BatchResponse<AccountDetailsDto>>> getAccountsByIds(@RequestParam List<Integer> ids) {
+		BatchResponse<AccountDetailsDto> batch = accountService.getAccountsByIds(ids);
+		AuthResponse<BatchResponse<AccountDetailsDto>> authResponse = new AuthResponse<>(
+				HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS,
+				LocalDateTime.now(),
+				"Accounts fetched successfully",
+				batch);
+		return ResponseEntity.ok(authResponse);
+	}
+
+	// Same listing with only the requested columns, e.g. ?fields=accountName,accountStatus
+	@GetMapping(value = "", params = "fields")
+	public ResponseEntity<AuthResponse<PaginatedResponse<Map<String, Object>>>> getActiveAccountFieldsPaginated(
+	        @RequestParam String fields,
+	        @RequestParam(defaultValue = "0") int page,
+	        @RequestParam(defaultValue = "5") int size,
+	        @RequestParam(defaultValue = "accountName") String sortBy
+	) {
+	    logger.info("Fetching sparse accounts page: fields={}, page={}, size={}, sortBy={}", fields, page, size, sortBy);
+
+	    Page<Map<String, Object>> rows = sparseFieldsetService.findPage(SparseFieldsetService.ACCOUNTS, fields, page, size,
+	            sortBy);
+
+	    PaginatedResponse<Map<String, Object>> paginated = new PaginatedResponse<>(
+	            rows.getContent(),
+	            rows.getNumber(),
+	            rows.getSize(),
+	            rows.getTotalElements(),
+	            rows.getTotalPages(),
+	            rows.isLast()
+	    );
+
+	    AuthResponse<PaginatedResponse<Map<String, Object>>> response = new AuthResponse<>(
+	            HttpStatus.OK.value(),
+	            RequestProcessStatus.SUCCESS,
+	            LocalDateTime.now(),
+	            "Paginated active accounts fetched successfully",
+	            paginated
+	    );
+
+	    return ResponseEntity.ok(response);
+	}
+
+	@GetMapping("/summary")
+	public ResponseEntity<AuthResponse<PaginatedResponse<AccountSummaryResponse>>> getActiveAccountSummaries(
+			@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "10") int size,
+			@RequestParam(defaultValue = "accountName") String sortBy) {
+		logger.info("Fetching account summaries: page={}, size={}, sortBy={}", page, size, sortBy);
+
+		Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy));
+		Page<AccountSummaryResponse> summaryPage = accountSummaryService.getActiveSummaries(pageable);
+
+		PaginatedResponse<AccountSummaryResponse> paginated = new PaginatedResponse<>(
+				summaryPage.getContent(),
+				summaryPage.getNumber(),
+				summaryPage.getSize(),
+				summaryPage.getTotalElements(),
+				summaryPage.getTotalPages(),
+				summaryPage.isLast());
+
+		AuthResponse<PaginatedResponse<AccountSummaryResponse>> response = new AuthResponse<>(
+				HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS,
+				LocalDateTime.now(),
+				"Account summaries fetched successfully",
+				paginated);
+
+		return ResponseEntity.ok(response);
+	}
+
+	@GetMapping("/{id}/summary")
+	public ResponseEntity<AuthResponse<AccountSummaryResponse>> getAccountSummary(@PathVariable int id) {
+		logger.info("Fetching summary for account ID: {}", id);
+		AccountSummaryResponse summary = accountSummaryService.getSummary(id);
+
+		AuthResponse<AccountSummaryResponse> response = new AuthResponse<>(
+				HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS,
+				LocalDateTime.now(),
+				"Account summary fetched successfully",
+				summary);
+
+		return ResponseEntity.ok(response);
+	}
+
 	@GetMapping("/search")
 	public ResponseEntity<AuthResponse<PaginatedResponse<AccountDetailsDto>>> searchAccountsByNamePaginated(
 	        @RequestParam String name,
@@ -129,6 +228,38 @@ public class AccountController {
 	    return ResponseEntity.ok(response);
 	}
 
+	@GetMapping("/search/ranked")
+	public ResponseEntity<AuthResponse<PaginatedResponse<AccountDetailsDto>>> searchAccountsRanked(
+	        @RequestParam String name,
+	        @RequestParam(defaultValue = "false") boolean fuzzy,
+	        @RequestParam(defaultValue = "0") int page,
+	        @RequestParam(defaultValue = "10") int size
+	) {
+	    logger.info("Ranked account search: name={}, fuzzy={}, page={}, size={}", name, fuzzy, page, size);
+
+	    // Ordered by similarity, so no sortBy here
+	    Page<AccountDetailsDto> resultPage = accountService.searchAccountsRanked(name, fuzzy, PageRequest.of(page, size));
+
+	    PaginatedResponse<AccountDetailsDto> paginated = new PaginatedResponse<>(
+	            resultPage.getContent(),
+	            resultPage.getNumber(),
+	            resultPage.getSize(),
+	            resultPage.getTotalElements(),
+	            resultPage.getTotalPages(),
+	            resultPage.isLast()
+	    );
+
+	    AuthResponse<PaginatedResponse<AccountDetailsDto>> response = new AuthResponse<>(
+	            HttpStatus.OK.value(),
+	            RequestProcessStatus.SUCCESS,
+	            LocalDateTime.now(),
+	            "Accounts fetched successfully",
+	            paginated
+	    );
+
+	    return ResponseEntity.ok(response);
+	}
+
 	@PutMapping("/{id}")
 	public ResponseEntity<AuthResponse<AccountDetailsDto>> updateAccount(@PathVariable int id,
 			@RequestBody AccountDetailsDto updatedDto) {
@@ -143,14 +274,31 @@ public class AccountController {
 		return ResponseEntity.ok(response);
 	}
 	@DeleteMapping("/{id}")
-	public ResponseEntity<AuthResponse<AccountDetailsDto>> deleteAccount(@PathVariable int id) {
+	public ResponseEntity<AuthResponse<AccountDeactivationResponse>> deleteAccount(@PathVariable int id,
+			@RequestParam(defaultValue = "false") boolean background) {
+		if (background) {
+			logger.info("Queueing background deactivation for account ID: {}", id);
+			AccountDeactivationResponse job = accountDeactivationJobService.submit(id);
+			AuthResponse<AccountDeactivationResponse> response = new AuthResponse<>(HttpStatus.ACCEPTED.value(),
+					RequestProcessStatus.SUCCESS, LocalDateTime.now(), "Account deactivation queued", job);
+			return ResponseEntity.accepted().body(response);
+		}
+
 		logger.info("Permanently deleting account with ID: {}", id);
 		accountService.deleteAccount(id);
 
 		logger.debug("Account permanently deleted with ID: {}", id);
-		AuthResponse<AccountDetailsDto> response = new AuthResponse<>(HttpStatus.OK.value(),
+		AuthResponse<AccountDeactivationResponse> response = new AuthResponse<>(HttpStatus.OK.value(),
 				RequestProcessStatus.SUCCESS, "Account temporarily deactivated ");
         // Note: This is a soft delete, not a permanent deletion
 		return ResponseEntity.ok(response);
 	}
-}
\ No newline at end of file
+
+	@GetMapping("/deactivation-jobs/{jobId}")
+	public ResponseEntity<AuthResponse<AccountDeactivationResponse>> getDeactivationJob(@PathVariable String jobId) {
+		AccountDeactivationResponse job = accountDeactivationJobService.getJob(jobId);
+		AuthResponse<AccountDeactivationResponse> response = new AuthResponse<>(HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS, LocalDateTime.now(), "Deactivation job fetched successfully", job);
+		return ResponseEntity.ok(response);
+	}
+}
@@ -0,0 +1,33 @@
+package com.qentelli.employeetrackingsystem.controller;
+
+import java.io.IOException;
+
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.qentelli.employeetrackingsystem.models.client.request.BatchRequest;
+import com.qentelli.employeetrackingsystem.serviceImpl.BatchDispatchService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * POST /batch runs several API calls in one round trip. The response is
+ * {"responses":[{"id","status","headers","body"}, ...]} in request order;
+ * each sub-request keeps its own status, so a batch answers 200 even when
+ * some of its requests failed.
+ */
+@RestController
+@RequiredArgsConstructor
+public class BatchController {
+
+	private final BatchDispatchService batchDispatchService;
+
+	@PostMapping("/batch")
+	public void batch(@RequestBody BatchRequest batchRequest, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		batchDispatchService.execute(batchRequest, request, response);
+	}
+}
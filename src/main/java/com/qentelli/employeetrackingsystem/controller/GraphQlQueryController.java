@@ -0,0 +1,190 @@
+package com.qentelli.employeetrackingsystem.controller;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import org.dataloader.DataLoader;
+
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Controller;
+
+import com.qentelli.employeetrackingsystem.entity.Account;
+import com.qentelli.employeetrackingsystem.entity.Person;
+import com.qentelli.employeetrackingsystem.entity.Project;
+import com.qentelli.employeetrackingsystem.entity.ViewReports;
+import com.qentelli.employeetrackingsystem.entity.WeeklySummary;
+import com.qentelli.employeetrackingsystem.serviceImpl.GraphQlQueryService;
+
+import graphql.schema.DataFetchingEnvironment;
+import reactor.core.publisher.Mono;
+
+/**
+ * GraphQL resolvers (schema in resources/graphql). Associations are resolved
+ * through data loaders that receive every parent of a field at once, so each
+ * association costs one query per request. List fields take a first argument
+ * and load at most that many children per parent.
+ */
+@Controller
+public class GraphQlQueryController {
+
+	private static final String ACCOUNT_PROJECTS = "accountProjects";
+	private static final String PROJECT_PERSONS = "projectPersons";
+	private static final String PROJECT_REPORTS = "projectReports";
+	private static final String PERSON_PROJECTS = "personProjects";
+	private static final String PERSON_REPORTS = "personReports";
+	private static final String WEEK_PROJECTS = "weekProjects";
+	private static final String WEEK_REPORTS = "weekReports";
+
+	/** One parent's share of a list field: its first children. */
+	private record Slice(Integer parentId, int first) {
+	}
+
+	private final GraphQlQueryService queryService;
+
+	public GraphQlQueryController(GraphQlQueryService queryService, BatchLoaderRegistry registry) {
+		this.queryService = queryService;
+		register(registry, ACCOUNT_PROJECTS, queryService::projectsByAccountIds);
+		register(registry, PROJECT_PERSONS, queryService::personsByProjectIds);
+		register(registry, PROJECT_REPORTS, queryService::reportsByProjectIds);
+		register(registry, PERSON_PROJECTS, queryService::projectsByPersonIds);
+		register(registry, PERSON_REPORTS, queryService::reportsByPersonIds);
+		register(registry, WEEK_PROJECTS, queryService::projectsByWeekIds);
+		register(registry, WEEK_REPORTS, queryService::reportsByWeekIds);
+	}
+
+	@QueryMapping
+	public List<Account> accounts(@Argument int page, @Argument int size) {
+		return queryService.accounts(page, size);
+	}
+
+	@QueryMapping
+	public Account account(@Argument Integer id) {
+		return queryService.account(id);
+	}
+
+	@QueryMapping
+	public List<Project> projects(@Argument int page, @Argument int size) {
+		return queryService.projects(page, size);
+	}
+
+	@QueryMapping
+	public Project project(@Argument Integer id) {
+		return queryService.project(id);
+	}
+
+	@QueryMapping
+	public List<Person> persons(@Argument int page, @Argument int size) {
+		return queryService.persons(page, size);
+	}
+
+	@QueryMapping
+	public Person person(@Argument Integer id) {
+		return queryService.person(id);
+	}
+
+	@QueryMapping
+	public List<WeeklySummary> weeklySummaries(@Argument int page, @Argument int size) {
+		return queryService.weeklySummaries(page, size);
+	}
+
+	@QueryMapping
+	public WeeklySummary weeklySummary(@Argument Integer id) {
+		return queryService.weeklySummary(id);
+	}
+
+	@QueryMapping
+	public ViewReports report(@Argument Integer id) {
+		return queryService.report(id);
+	}
+
+	@SchemaMapping(typeName = "Account", field = "projects")
+	public CompletableFuture<List<Project>> accountProjects(Account account, @Argument int first,
+			DataFetchingEnvironment environment) {
+		return load(environment, ACCOUNT_PROJECTS, account.getAccountId(), first);
+	}
+
+	@BatchMapping(typeName = "Project", field = "account")
+	public List<Account> projectAccount(List<Project> projects) {
+		Map<Integer, Account> accounts = queryService
+				.accountsByProjectIds(projects.stream().map(Project::getProjectId).toList());
+		return projects.stream().map(project -> accounts.get(project.getProjectId())).toList();
+	}
+
+	@SchemaMapping(typeName = "Project", field = "persons")
+	public CompletableFuture<List<Person>> projectPersons(Project project, @Argument int first,
+			DataFetchingEnvironment environment) {
+		return load(environment, PROJECT_PERSONS, project.getProjectId(), first);
+	}
+
+	@SchemaMapping(typeName = "Project", field = "reports")
+	public CompletableFuture<List<ViewReports>> projectReports(Project project, @Argument int first,
+			DataFetchingEnvironment environment) {
+		return load(environment, PROJECT_REPORTS, project.getProjectId(), first);
+	}
+
+	@SchemaMapping(typeName = "Person", field = "projects")
+	public CompletableFuture<List<Project>> personProjects(Person person, @Argument int first,
+			DataFetchingEnvironment environment) {
+		return load(environment, PERSON_PROJECTS, person.getPersonId(), first);
+	}
+
+	@SchemaMapping(typeName = "Person", field = "reports")
+	public CompletableFuture<List<ViewReports>> personReports(Person person, @Argument int first,
+			DataFetchingEnvironment environment) {
+		return load(environment, PERSON_REPORTS, person.getPersonId(), first);
+	}
+
+	@SchemaMapping(typeName = "WeeklySummary", field = "projects")
+	public CompletableFuture<List<Project>> weekProjects(WeeklySummary week, @Argument int first,
+			DataFetchingEnvironment environment) {
+		return load(environment, WEEK_PROJECTS, week.getWeekId(), first);
+	}
+
+	@SchemaMapping(typeName = "WeeklySummary", field = "reports")
+	public CompletableFuture<List<ViewReports>> weekReports(WeeklySummary week, @Argument int first,
+			DataFetchingEnvironment environment) {
+		return load(environment, WEEK_REPORTS, week.getWeekId(), first);
+	}
+
+	@SchemaMapping(typeName = "ViewReport", field = "summary")
+	public List<String> reportSummary(ViewReports report) {
+		return report.getTask() != null ? report.getTask().getSummary() : null;
+	}
+
+	@SchemaMapping(typeName = "ViewReport", field = "keyAccomplishment")
+	public List<String> reportKeyAccomplishment(ViewReports report) {
+		return report.getTask() != null ? report.getTask().getKeyAccomplishment() : null;
+	}
+
+	private static <V> CompletableFuture<List<V>> load(DataFetchingEnvironment environment, String loader,
+			Integer parentId, int first) {
+		DataLoader<Slice, List<V>> dataLoader = environment.getDataLoader(loader);
+		return dataLoader.load(new Slice(parentId, first));
+	}
+
+	/**
+	 * Registers a loader that answers all slices of a request with one
+	 * service call per distinct first; a request normally uses one value.
+	 */
+	private static <V> void register(BatchLoaderRegistry registry, String name,
+			BiFunction<List<Integer>, Integer, Map<Integer, List<V>>> loader) {
+		registry.<Slice, List<V>>forName(name).registerMappedBatchLoader((slices, env) -> Mono.fromCallable(() -> {
+			Map<Integer, List<Integer>> parentsByFirst = slices.stream().collect(
+					Collectors.groupingBy(Slice::first, Collectors.mapping(Slice::parentId, Collectors.toList())));
+			Map<Slice, List<V>> result = new HashMap<>();
+			parentsByFirst.forEach((first, parentIds) -> {
+				Map<Integer, List<V>> children = loader.apply(parentIds, first);
+				parentIds.forEach(id -> result.put(new Slice(id, first), children.getOrDefault(id, List.of())));
+			});
+			return result;
+		}));
+	}
+}
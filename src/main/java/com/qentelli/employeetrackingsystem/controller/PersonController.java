@@ -2,6 +2,7 @@ package com.qentelli.employeetrackingsystem.controller;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,8 +25,12 @@ import org.springframework.web.bind.annotation.RestController;
 import com.qentelli.employeetrackingsystem.entity.Roles;
 import com.qentelli.employeetrackingsystem.exception.RequestProcessStatus;
 import com.qentelli.employeetrackingsystem.models.client.request.PersonDTO;
+import com.qentelli.employeetrackingsystem.models.client.request.ProjectAssignmentRequest;
+import com.qentelli.employeetrackingsystem.models.client.response.BatchResponse;
 import com.qentelli.employeetrackingsystem.models.client.response.AuthResponse;
 import com.qentelli.employeetrackingsystem.models.client.response.PaginatedResponse;
+import com.qentelli.employeetrackingsystem.models.client.response.ProjectAssignmentResponse;
+import com.qentelli.employeetrackingsystem.serviceImpl.SparseFieldsetService;
 import com.qentelli.employeetrackingsystem.serviceImpl.PersonService;
 
 import jakarta.validation.Valid;
@@ -39,6 +44,7 @@ public class PersonController {
 	private static final Logger logger = LoggerFactory.getLogger(PersonController.class);
 
 	private final PersonService personService;
+	private final SparseFieldsetService sparseFieldsetService;
 
 	@PostMapping
 	public ResponseEntity<AuthResponse<PersonDTO>> createPerson(@Valid @RequestBody PersonDTO personDto) {
@@ -67,6 +73,30 @@ public class PersonController {
 		return ResponseEntity.ok(response);
 	}
 
+	@PostMapping("/bulk-tag-projects")
+	public ResponseEntity<AuthResponse<ProjectAssignmentResponse>> bulkTagProjects(
+			@RequestBody ProjectAssignmentRequest request) {
+		logger.info("Bulk tagging projects to persons");
+
+		ProjectAssignmentResponse result = personService.bulkTagProjects(request);
+
+		AuthResponse<ProjectAssignmentResponse> response = new AuthResponse<>(HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS, LocalDateTime.now(), "Project(s) tagged successfully", result);
+		return ResponseEntity.ok(response);
+	}
+
+	@PostMapping("/bulk-untag-projects")
+	public ResponseEntity<AuthResponse<ProjectAssignmentResponse>> bulkUntagProjects(
+			@RequestBody ProjectAssignmentRequest request) {
+		logger.info("Bulk untagging projects from persons");
+
+		ProjectAssignmentResponse result = personService.bulkUntagProjects(request);
+
+		AuthResponse<ProjectAssignmentResponse> response = new AuthResponse<>(HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS, LocalDateTime.now(), "Project(s) untagged successfully", result);
+		return ResponseEntity.ok(response);
+	}
+
 //	@GetMapping
 //	public ResponseEntity<AuthResponse<List<PersonDTO>>> getAllPersons() {
 //		logger.info("Fetching all persons");
@@ -113,6 +143,52 @@ public class PersonController {
 	    return ResponseEntity.ok(response);
 	}
 
+	// e.g. GET /Person/batch?ids=3,1,7 - one query, results in request order, unknown ids reported
+	@GetMapping("/batch")
+	public ResponseEntity<AuthResponse<BatchResponse<PersonDTO>>> getPersonsByIds(@RequestParam List<Integer> ids) {
+		BatchResponse<PersonDTO> batch = personService.getPersonsByIds(ids);
+		AuthResponse<BatchResponse<PersonDTO>> authResponse = new AuthResponse<>(
+				HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS,
+				LocalDateTime.now(),
+				"Persons fetched successfully",
+				batch);
+		return ResponseEntity.ok(authResponse);
+	}
+
+	// Same listing with only the requested columns, e.g. ?fields=firstName,lastName
+	@GetMapping(value = "/active", params = "fields")
+	public ResponseEntity<AuthResponse<PaginatedResponse<Map<String, Object>>>> getActivePersonFieldsPaginated(
+	        @RequestParam String fields,
+	        @RequestParam(defaultValue = "0") int page,
+	        @RequestParam(defaultValue = "10") int size,
+	        @RequestParam(defaultValue = "personId") String sortBy
+	) {
+	    logger.info("Fetching sparse persons page: fields={}, page={}, size={}, sortBy={}", fields, page, size, sortBy);
+
+	    Page<Map<String, Object>> rows = sparseFieldsetService.findPage(SparseFieldsetService.PERSONS, fields, page, size,
+	            sortBy);
+
+	    PaginatedResponse<Map<String, Object>> paginated = new PaginatedResponse<>(
+	            rows.getContent(),
+	            rows.getNumber(),
+	            rows.getSize(),
+	            rows.getTotalElements(),
+	            rows.getTotalPages(),
+	            rows.isLast()
+	    );
+
+	    AuthResponse<PaginatedResponse<Map<String, Object>>> response = new AuthResponse<>(
+	            HttpStatus.OK.value(),
+	            RequestProcessStatus.SUCCESS,
+	            LocalDateTime.now(),
+	            "Paginated active persons fetched successfully",
+	            paginated
+	    );
+
+	    return ResponseEntity.ok(response);
+	}
+
 //	@GetMapping("/{id}")
 //	public ResponseEntity<AuthResponse<PersonDTO>> getPersonById(@PathVariable int id) {
 //		logger.info("Fetching person by ID: {}", id);
@@ -176,6 +252,38 @@ public class PersonController {
 	    return ResponseEntity.ok(response);
 	}
 
+	@GetMapping("/search/ranked")
+	public ResponseEntity<AuthResponse<PaginatedResponse<PersonDTO>>> searchPersonsRanked(
+	        @RequestParam String name,
+	        @RequestParam(defaultValue = "false") boolean fuzzy,
+	        @RequestParam(defaultValue = "0") int page,
+	        @RequestParam(defaultValue = "10") int size
+	) {
+	    logger.info("Ranked person search: name={}, fuzzy={}, page={}, size={}", name, fuzzy, page, size);
+
+	    // Ordered by similarity, so no sortBy here
+	    Page<PersonDTO> resultPage = personService.searchPersonsRanked(name, fuzzy, PageRequest.of(page, size));
+
+	    PaginatedResponse<PersonDTO> paginated = new PaginatedResponse<>(
+	            resultPage.getContent(),
+	            resultPage.getNumber(),
+	            resultPage.getSize(),
+	            resultPage.getTotalElements(),
+	            resultPage.getTotalPages(),
+	            resultPage.isLast()
+	    );
+
+	    AuthResponse<PaginatedResponse<PersonDTO>> response = new AuthResponse<>(
+	            HttpStatus.OK.value(),
+	            RequestProcessStatus.SUCCESS,
+	            LocalDateTime.now(),
+	            "Persons fetched successfully",
+	            paginated
+	    );
+
+	    return ResponseEntity.ok(response);
+	}
+
 	@GetMapping("/role/{role}")
 	public ResponseEntity<AuthResponse<PaginatedResponse<PersonDTO>>> getPersonsByRole(
 	        @PathVariable String role,
@@ -2,6 +2,7 @@ package com.qentelli.employeetrackingsystem.controller;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
@@ -26,8 +27,10 @@ import com.qentelli.employeetrackingsystem.entity.Project;
 import com.qentelli.employeetrackingsystem.exception.DuplicateProjectException;
 import com.qentelli.employeetrackingsystem.exception.RequestProcessStatus;
 import com.qentelli.employeetrackingsystem.models.client.request.ProjectDTO;
+import com.qentelli.employeetrackingsystem.models.client.response.BatchResponse;
 import com.qentelli.employeetrackingsystem.models.client.response.AuthResponse;
 import com.qentelli.employeetrackingsystem.models.client.response.PaginatedResponse;
+import com.qentelli.employeetrackingsystem.serviceImpl.SparseFieldsetService;
 import com.qentelli.employeetrackingsystem.serviceImpl.ProjectService;
 
 import jakarta.validation.Valid;
@@ -42,6 +45,7 @@ public class ProjectController {
 
 	private final ProjectService projectService;
 	private final ModelMapper modelMapper;
+	private final SparseFieldsetService sparseFieldsetService;
 
 	@PostMapping
 	public ResponseEntity<AuthResponse<ProjectDTO>> createProject(@Valid @RequestBody ProjectDTO projectRequest)
@@ -96,6 +100,38 @@ public class ProjectController {
 	    return ResponseEntity.ok(response);
 	}
 
+	@GetMapping("/search/ranked")
+	public ResponseEntity<AuthResponse<PaginatedResponse<ProjectDTO>>> searchProjectsRanked(
+	        @RequestParam String name,
+	        @RequestParam(defaultValue = "false") boolean fuzzy,
+	        @RequestParam(defaultValue = "0") int page,
+	        @RequestParam(defaultValue = "10") int size
+	) {
+	    logger.info("Ranked project search: name={}, fuzzy={}, page={}, size={}", name, fuzzy, page, size);
+
+	    // Ordered by similarity, so no sortBy here
+	    Page<ProjectDTO> resultPage = projectService.searchProjectsRanked(name, fuzzy, PageRequest.of(page, size));
+
+	    PaginatedResponse<ProjectDTO> paginated = new PaginatedResponse<>(
+	            resultPage.getContent(),
+	            resultPage.getNumber(),
+	            resultPage.getSize(),
+	            resultPage.getTotalElements(),
+	            resultPage.getTotalPages(),
+	            resultPage.isLast()
+	    );
+
+	    AuthResponse<PaginatedResponse<ProjectDTO>> response = new AuthResponse<>(
+	            HttpStatus.OK.value(),
+	            RequestProcessStatus.SUCCESS,
+	            LocalDateTime.now(),
+	            "Projects fetched successfully",
+	            paginated
+	    );
+
+	    return ResponseEntity.ok(response);
+	}
+
 	@GetMapping()
 	public ResponseEntity<AuthResponse<PaginatedResponse<ProjectDTO>>> getActiveProjectsPaginated(
 	        @RequestParam(defaultValue = "0") int page,
@@ -134,6 +170,52 @@ public class ProjectController {
 	    return ResponseEntity.ok(response);
 	}
 
+	// e.g. GET /projects/batch?ids=3,1,7 - one query, results in request order, unknown ids reported
+	@GetMapping("/batch")
+	public ResponseEntity<AuthResponse<BatchResponse<ProjectDTO>>> getProjectsByIds(@RequestParam List<Integer> ids) {
+		BatchResponse<ProjectDTO> batch = projectService.getProjectsByIds(ids);
+		AuthResponse<BatchResponse<ProjectDTO>> authResponse = new AuthResponse<>(
+				HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS,
+				LocalDateTime.now(),
+				"Projects fetched successfully",
+				batch);
+		return ResponseEntity.ok(authResponse);
+	}
+
+	// Same listing with only the requested columns, e.g. ?fields=projectName,accountName
+	@GetMapping(value = "", params = "fields")
+	public ResponseEntity<AuthResponse<PaginatedResponse<Map<String, Object>>>> getActiveProjectFieldsPaginated(
+	        @RequestParam String fields,
+	        @RequestParam(defaultValue = "0") int page,
+	        @RequestParam(defaultValue = "10") int size,
+	        @RequestParam(defaultValue = "projectName") String sortBy
+	) {
+	    logger.info("Fetching sparse projects page: fields={}, page={}, size={}, sortBy={}", fields, page, size, sortBy);
+
+	    Page<Map<String, Object>> rows = sparseFieldsetService.findPage(SparseFieldsetService.PROJECTS, fields, page, size,
+	            sortBy);
+
+	    PaginatedResponse<Map<String, Object>> paginated = new PaginatedResponse<>(
+	            rows.getContent(),
+	            rows.getNumber(),
+	            rows.getSize(),
+	            rows.getTotalElements(),
+	            rows.getTotalPages(),
+	            rows.isLast()
+	    );
+
+	    AuthResponse<PaginatedResponse<Map<String, Object>>> response = new AuthResponse<>(
+	            HttpStatus.OK.value(),
+	            RequestProcessStatus.SUCCESS,
+	            LocalDateTime.now(),
+	            "Paginated active projects fetched successfully",
+	            paginated
+	    );
+
+	    return ResponseEntity.ok(response);
+	}
+
 	@PutMapping("/{id}")
 	public ResponseEntity<AuthResponse<ProjectDTO>> updateProject(@PathVariable Integer id,
 			@RequestBody ProjectDTO projectUpdate) {
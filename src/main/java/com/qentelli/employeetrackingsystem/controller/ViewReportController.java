@@ -1,10 +1,18 @@
 package com.qentelli.employeetrackingsystem.controller;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,12 +21,31 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.qentelli.employeetrackingsystem.exception.InvalidInputDataException;
 import com.qentelli.employeetrackingsystem.exception.RequestProcessStatus;
+import com.qentelli.employeetrackingsystem.models.client.request.ExportRequest;
 import com.qentelli.employeetrackingsystem.models.client.request.ViewReportRequest;
+import com.qentelli.employeetrackingsystem.models.client.response.BatchResponse;
+import com.qentelli.employeetrackingsystem.models.client.response.ActiveTaskResponse;
 import com.qentelli.employeetrackingsystem.models.client.response.AuthResponse;
+import com.qentelli.employeetrackingsystem.models.client.response.PaginatedResponse;
+import com.qentelli.employeetrackingsystem.models.client.response.ReportIngestionStatus;
+import com.qentelli.employeetrackingsystem.models.client.response.ReportSearchHit;
+import com.qentelli.employeetrackingsystem.models.client.response.TaskStatusRollupResponse;
+import com.qentelli.employeetrackingsystem.models.client.response.TimesheetEntryResponse;
 import com.qentelli.employeetrackingsystem.models.client.response.ViewReportResponse;
+import com.qentelli.employeetrackingsystem.serviceImpl.ReportExportService;
+import com.qentelli.employeetrackingsystem.serviceImpl.ReportExportService.ExportFormat;
+import com.qentelli.employeetrackingsystem.serviceImpl.ReportIngestionService;
+import com.qentelli.employeetrackingsystem.serviceImpl.ReportOverlapService;
+import com.qentelli.employeetrackingsystem.serviceImpl.ReportRollupService;
+import com.qentelli.employeetrackingsystem.serviceImpl.ReportSearchIndex;
+import com.qentelli.employeetrackingsystem.serviceImpl.SparseFieldsetService;
+import com.qentelli.employeetrackingsystem.serviceImpl.TimesheetService;
 import com.qentelli.employeetrackingsystem.serviceImpl.ViewReportService;
 
 @RestController
@@ -28,9 +55,48 @@ public class ViewReportController {
 	@Autowired
 	private ViewReportService viewReportService;
 
+	@Autowired
+	private ReportExportService reportExportService;
+
+	@Autowired
+	private ReportRollupService reportRollupService;
+
+	@Autowired
+	private ObjectProvider<ReportIngestionService> reportIngestionService;
+
+	@Autowired
+	private SparseFieldsetService sparseFieldsetService;
+
+	@Autowired
+	private ReportSearchIndex reportSearchIndex;
+
+	@Autowired
+	private TimesheetService timesheetService;
+
+	@Autowired
+	private ReportOverlapService reportOverlapService;
+
 	@PostMapping("/create")
-	public ResponseEntity<AuthResponse<ViewReportResponse>> createReport(@RequestBody ViewReportRequest request) {
-		ViewReportResponse response = viewReportService.saveReport(request);
+	public ResponseEntity<AuthResponse<?>> createReport(@RequestBody ViewReportRequest request,
+			@RequestParam(defaultValue = "false") boolean async) {
+		if (async) {
+			ReportIngestionService ingestion = reportIngestionService.getIfAvailable();
+			if (ingestion == null) {
+				throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "Async report ingestion is not enabled");
+			}
+			ReportIngestionStatus status = ingestion.submit(request);
+			AuthResponse<ReportIngestionStatus> authResponse = new AuthResponse<>(
+					HttpStatus.ACCEPTED.value(),
+					RequestProcessStatus.SUCCESS,
+					LocalDateTime.now(),
+					"Report accepted for processing",
+					status);
+			return ResponseEntity.accepted()
+					.header(HttpHeaders.LOCATION, "/api/view-report/ingestion/" + status.getTrackingId())
+					.body(authResponse);
+		}
+
+		viewReportService.saveReport(request);
 		AuthResponse<ViewReportResponse> authResponse = new AuthResponse<>(
 				HttpStatus.CREATED.value(),
 				RequestProcessStatus.SUCCESS,
@@ -38,6 +104,21 @@ public class ViewReportController {
 		return new ResponseEntity<>(authResponse, HttpStatus.CREATED);
 	}
 
+	@GetMapping("/ingestion/{trackingId}")
+	public ResponseEntity<AuthResponse<ReportIngestionStatus>> getIngestionStatus(@PathVariable String trackingId) {
+		ReportIngestionService ingestion = reportIngestionService.getIfAvailable();
+		if (ingestion == null) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "Async report ingestion is not enabled");
+		}
+		AuthResponse<ReportIngestionStatus> authResponse = new AuthResponse<>(
+				HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS,
+				LocalDateTime.now(),
+				"Report submission status fetched successfully",
+				ingestion.getStatus(trackingId));
+		return ResponseEntity.ok(authResponse);
+	}
+
 	@GetMapping("/{id}")
 	public ResponseEntity<AuthResponse<ViewReportResponse>> getReportById(@PathVariable Integer id) {
 		ViewReportResponse response = viewReportService.getReportById(id);
@@ -50,6 +131,19 @@ public class ViewReportController {
 		return ResponseEntity.ok(authResponse);
 	}
 
+	// e.g. GET /api/view-report/batch?ids=3,1,7 - one query, results in request order, unknown ids reported
+	@GetMapping("/batch")
+	public ResponseEntity<AuthResponse<BatchResponse<ViewReportResponse>>> getReportsByIds(@RequestParam List<Integer> ids) {
+		BatchResponse<ViewReportResponse> batch = viewReportService.getReportsByIds(ids);
+		AuthResponse<BatchResponse<ViewReportResponse>> authResponse = new AuthResponse<>(
+				HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS,
+				LocalDateTime.now(),
+				"Reports fetched successfully",
+				batch);
+		return ResponseEntity.ok(authResponse);
+	}
+
 	@GetMapping("/all")
 	public ResponseEntity<AuthResponse<List<ViewReportResponse>>> getAllReports() {
 		List<ViewReportResponse> responseList = viewReportService.getAllReports();
@@ -62,9 +156,182 @@ public class ViewReportController {
 		return ResponseEntity.ok(authResponse);
 	}
 
+	// Same list with only the requested columns, e.g. ?fields=taskName,taskStatus
+	@GetMapping(value = "/all", params = "fields")
+	public ResponseEntity<AuthResponse<List<Map<String, Object>>>> getAllReportFields(@RequestParam String fields,
+			@RequestParam(required = false) String sortBy) {
+		List<Map<String, Object>> rows = sparseFieldsetService.findAll(SparseFieldsetService.REPORTS, fields, sortBy);
+		AuthResponse<List<Map<String, Object>>> authResponse = new AuthResponse<>(
+				HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS,
+				LocalDateTime.now(),
+				"All reports fetched successfully",
+				rows);
+		return ResponseEntity.ok(authResponse);
+	}
+
+	// Streams matching reports as CSV or NDJSON, e.g.
+	// /export?format=ndjson&fromWeek=2025-01-06&toWeek=2025-03-31&projectId=4&gzip=true
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportReports(ExportRequest request) {
+		ExportFormat format = ExportFormat.from(request.getFormat());
+		StreamingResponseBody body = out -> {
+			if (request.isGzip()) {
+				GZIPOutputStream gzip = new GZIPOutputStream(out, 8192);
+				reportExportService.exportReports(request, gzip);
+				gzip.finish();
+			} else {
+				reportExportService.exportReports(request, out);
+			}
+		};
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(format.getContentType()))
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						"attachment; filename=\"view-reports." + format.getExtension() + "\"");
+		if (request.isGzip()) {
+			builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+		return builder.body(body);
+	}
+
+	// Task-status counts for a week, answered from the rollup table
+	@GetMapping("/rollup")
+	public ResponseEntity<AuthResponse<List<TaskStatusRollupResponse>>> getStatusRollup(
+			@RequestParam Integer weekId,
+			@RequestParam(required = false) Integer projectId,
+			@RequestParam(required = false) Integer accountId,
+			@RequestParam(required = false) Integer personId,
+			@RequestParam(defaultValue = "none") String groupBy) {
+		List<TaskStatusRollupResponse> rollup = reportRollupService.summarize(weekId, projectId, accountId, personId,
+				groupBy);
+		AuthResponse<List<TaskStatusRollupResponse>> authResponse = new AuthResponse<>(
+				HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS,
+				LocalDateTime.now(),
+				"Task status rollup fetched successfully",
+				rollup);
+		return ResponseEntity.ok(authResponse);
+	}
+
+	@PostMapping("/rollup/rebuild")
+	public ResponseEntity<AuthResponse<String>> rebuildStatusRollup() {
+		int rows = reportRollupService.rebuild();
+		AuthResponse<String> authResponse = new AuthResponse<>(
+				HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS,
+				LocalDateTime.now(),
+				"Task status rollup rebuilt successfully",
+				rows + " rollup rows rebuilt from reports");
+		return ResponseEntity.ok(authResponse);
+	}
+
+	// Full-text search over task name, summary, key accomplishments and comments; answered from the search index
+	@GetMapping("/search")
+	public ResponseEntity<AuthResponse<PaginatedResponse<ReportSearchHit>>> searchReports(
+			@RequestParam String q,
+			@RequestParam(required = false) Integer projectId,
+			@RequestParam(required = false) Integer personId,
+			@RequestParam(required = false) Integer weekId,
+			@RequestParam(required = false) String taskStatus,
+			@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "20") int size) {
+		Page<ReportSearchHit> hits = reportSearchIndex.search(q, projectId, personId, weekId, taskStatus, page, size);
+		PaginatedResponse<ReportSearchHit> paginated = new PaginatedResponse<>(
+				hits.getContent(),
+				hits.getNumber(),
+				hits.getSize(),
+				hits.getTotalElements(),
+				hits.getTotalPages(),
+				hits.isLast());
+		AuthResponse<PaginatedResponse<ReportSearchHit>> authResponse = new AuthResponse<>(
+				HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS,
+				LocalDateTime.now(),
+				"Reports searched successfully",
+				paginated);
+		return ResponseEntity.ok(authResponse);
+	}
+
+	@PostMapping("/search/rebuild")
+	public ResponseEntity<AuthResponse<String>> rebuildSearchIndex() {
+		int reports = reportSearchIndex.rebuild();
+		AuthResponse<String> authResponse = new AuthResponse<>(
+				HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS,
+				LocalDateTime.now(),
+				"Report search index rebuilt successfully",
+				reports + " reports indexed");
+		return ResponseEntity.ok(authResponse);
+	}
+
+	// A person's reports for one week (weekId), the weeks starting between from and to, or the last n weeks (default 8)
+	@GetMapping("/timesheet/person/{personId}")
+	public ResponseEntity<AuthResponse<List<TimesheetEntryResponse>>> getPersonTimesheet(
+			@PathVariable Integer personId,
+			@RequestParam(required = false) Integer weekId,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+			@RequestParam(required = false) Integer weeks) {
+		List<TimesheetEntryResponse> entries = timesheetService.forPerson(personId, weekId, from, to, weeks);
+		AuthResponse<List<TimesheetEntryResponse>> authResponse = new AuthResponse<>(
+				HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS,
+				LocalDateTime.now(),
+				"Timesheet fetched successfully",
+				entries);
+		return ResponseEntity.ok(authResponse);
+	}
+
+	// Same as above for everyone reporting on a project
+	@GetMapping("/timesheet/project/{projectId}")
+	public ResponseEntity<AuthResponse<List<TimesheetEntryResponse>>> getProjectTimesheet(
+			@PathVariable Integer projectId,
+			@RequestParam(required = false) Integer weekId,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+			@RequestParam(required = false) Integer weeks) {
+		List<TimesheetEntryResponse> entries = timesheetService.forProject(projectId, weekId, from, to, weeks);
+		AuthResponse<List<TimesheetEntryResponse>> authResponse = new AuthResponse<>(
+				HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS,
+				LocalDateTime.now(),
+				"Timesheet fetched successfully",
+				entries);
+		return ResponseEntity.ok(authResponse);
+	}
+
+	// Reports whose task period overlaps from..to (to defaults to from, i.e. "active on that day")
+	@GetMapping("/active")
+	public ResponseEntity<AuthResponse<PaginatedResponse<ActiveTaskResponse>>> getActiveTasks(
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+			@RequestParam(required = false) Integer projectId,
+			@RequestParam(required = false) Integer accountId,
+			@RequestParam(required = false) Integer personId,
+			@RequestParam(required = false) String taskStatus,
+			@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "20") int size) {
+		Page<ActiveTaskResponse> tasks = reportOverlapService.findActive(from, to, projectId, accountId, personId,
+				taskStatus, page, size);
+		PaginatedResponse<ActiveTaskResponse> paginated = new PaginatedResponse<>(
+				tasks.getContent(),
+				tasks.getNumber(),
+				tasks.getSize(),
+				tasks.getTotalElements(),
+				tasks.getTotalPages(),
+				tasks.isLast());
+		AuthResponse<PaginatedResponse<ActiveTaskResponse>> authResponse = new AuthResponse<>(
+				HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS,
+				LocalDateTime.now(),
+				"Active tasks fetched successfully",
+				paginated);
+		return ResponseEntity.ok(authResponse);
+	}
+
 	@PutMapping("/update")
 	public ResponseEntity<AuthResponse<ViewReportResponse>> updateReport(@RequestBody ViewReportRequest request) {
-		ViewReportResponse response = viewReportService.updateReport(request);
+		viewReportService.updateReport(request);
 		AuthResponse<ViewReportResponse> authResponse = new AuthResponse<>(
 				HttpStatus.OK.value(),
 				RequestProcessStatus.SUCCESS,
@@ -2,8 +2,12 @@ package com.qentelli.employeetrackingsystem.controller;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,13 +16,20 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.qentelli.employeetrackingsystem.entity.WeeklySummary;
 import com.qentelli.employeetrackingsystem.exception.RequestProcessStatus;
+import com.qentelli.employeetrackingsystem.models.client.request.ExportRequest;
 import com.qentelli.employeetrackingsystem.models.client.request.WeeklySummaryRequest;
+import com.qentelli.employeetrackingsystem.models.client.response.BatchResponse;
 import com.qentelli.employeetrackingsystem.models.client.response.AuthResponse;
 import com.qentelli.employeetrackingsystem.models.client.response.WeeklySummaryResponse;
+import com.qentelli.employeetrackingsystem.serviceImpl.SparseFieldsetService;
+import com.qentelli.employeetrackingsystem.serviceImpl.ReportExportService;
+import com.qentelli.employeetrackingsystem.serviceImpl.ReportExportService.ExportFormat;
 import com.qentelli.employeetrackingsystem.serviceImpl.WeeklySummaryService;
 
 import lombok.RequiredArgsConstructor;
@@ -29,6 +40,8 @@ import lombok.RequiredArgsConstructor;
 public class WeeklySummaryController {
 
 	private final WeeklySummaryService weeklySummaryService;
+	private final ReportExportService reportExportService;
+	private final SparseFieldsetService sparseFieldsetService;
 
 	@PostMapping("/create")
 	public ResponseEntity<AuthResponse<WeeklySummaryResponse>> createWeeklySummary(
@@ -59,6 +72,19 @@ public class WeeklySummaryController {
 		return ResponseEntity.ok(authResponse);
 	}
 
+	// e.g. GET /weekly-summary/batch?ids=3,1,7 - one query, results in request order, unknown ids reported
+	@GetMapping("/batch")
+	public ResponseEntity<AuthResponse<BatchResponse<WeeklySummaryResponse>>> getWeeklySummariesByIds(@RequestParam List<Integer> ids) {
+		BatchResponse<WeeklySummaryResponse> batch = weeklySummaryService.getSummariesByIds(ids);
+		AuthResponse<BatchResponse<WeeklySummaryResponse>> authResponse = new AuthResponse<>(
+				HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS,
+				LocalDateTime.now(),
+				"Weekly summaries fetched successfully",
+				batch);
+		return ResponseEntity.ok(authResponse);
+	}
+
 	@GetMapping("/all")
 	public ResponseEntity<AuthResponse<List<WeeklySummaryResponse>>> getAllWeeklySummaries() {
 		List<WeeklySummaryResponse> summaries = weeklySummaryService.getAllSummaries();
@@ -72,6 +98,44 @@ public class WeeklySummaryController {
 		return ResponseEntity.ok(authResponse);
 	}
 
+	// Same list with only the requested columns, e.g. ?fields=weekStartDate,projectNames
+	@GetMapping(value = "/all", params = "fields")
+	public ResponseEntity<AuthResponse<List<Map<String, Object>>>> getAllWeeklySummaryFields(@RequestParam String fields,
+			@RequestParam(required = false) String sortBy) {
+		List<Map<String, Object>> rows = sparseFieldsetService.findAll(SparseFieldsetService.WEEKLY_SUMMARIES, fields,
+				sortBy);
+		AuthResponse<List<Map<String, Object>>> authResponse = new AuthResponse<>(
+				HttpStatus.OK.value(),
+				RequestProcessStatus.SUCCESS,
+				LocalDateTime.now(),
+				"All weekly summaries fetched successfully",
+				rows);
+		return ResponseEntity.ok(authResponse);
+	}
+
+	// Streams matching summaries as CSV or NDJSON, filtered by week range, project or account
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportWeeklySummaries(ExportRequest request) {
+		ExportFormat format = ExportFormat.from(request.getFormat());
+		StreamingResponseBody body = out -> {
+			if (request.isGzip()) {
+				GZIPOutputStream gzip = new GZIPOutputStream(out, 8192);
+				reportExportService.exportSummaries(request, gzip);
+				gzip.finish();
+			} else {
+				reportExportService.exportSummaries(request, out);
+			}
+		};
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(format.getContentType()))
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						"attachment; filename=\"weekly-summaries." + format.getExtension() + "\"");
+		if (request.isGzip()) {
+			builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+		return builder.body(body);
+	}
+
 	@PutMapping("/update")
 	public ResponseEntity<AuthResponse<WeeklySummaryResponse>> updateWeeklySummary(
 			@RequestBody WeeklySummaryRequest request) {
@@ -18,11 +18,15 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 @Entity
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
@@ -50,7 +54,25 @@ public class Account {
 
 	// Add this inside your Account class
 
+	@ToString.Exclude
 	@OneToMany(mappedBy = "account", cascade = CascadeType.ALL, orphanRemoval = true)
-	private List<Project> projects = new ArrayList<>();	
-	
+	private List<Project> projects = new ArrayList<>();
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || ProxyAwareClasses.effectiveClass(this) != ProxyAwareClasses.effectiveClass(o)) {
+			return false;
+		}
+		Account other = (Account) o;
+		return getAccountId() != 0 && getAccountId() == other.getAccountId();
+	}
+
+	@Override
+	public int hashCode() {
+		// Constant per class so the value does not change when the id is assigned on persist
+		return ProxyAwareClasses.effectiveClass(this).hashCode();
+	}
 }
@@ -0,0 +1,31 @@
+package com.qentelli.employeetrackingsystem.entity;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Denormalized per-account counters behind the account summary endpoints.
+ * Kept current by deltas on the account, project and person write paths and
+ * recomputed on a schedule by AccountSummaryService.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "account_counter")
+public class AccountCounter {
+
+	public static final String ACTIVE_PROJECTS = "ACTIVE_PROJECTS";
+	public static final String ACTIVE_PERSONS = "ACTIVE_PERSONS";
+	public static final String ACTIVE_PERSONS_BY_ROLE = "ACTIVE_PERSONS_BY_ROLE";
+	public static final String ACTIVE_PERSONS_BY_TECH_STACK = "ACTIVE_PERSONS_BY_TECH_STACK";
+
+	@EmbeddedId
+	private AccountCounterId id;
+
+	private long counterValue;
+}
@@ -0,0 +1,21 @@
+package com.qentelli.employeetrackingsystem.entity;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class AccountCounterId implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private Integer accountId;
+	private String counterName;
+	private String counterKey; // role or tech stack name, empty for plain totals
+}
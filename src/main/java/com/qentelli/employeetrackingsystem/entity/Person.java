@@ -1,10 +1,15 @@
 package com.qentelli.employeetrackingsystem.entity;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -14,13 +19,18 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 @Entity
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
 public class Person {
 
     @Id
@@ -33,20 +43,45 @@ public class Person {
     private String email;
     @Column(unique = true, nullable = false)
     private String employeeCode;
+    @ToString.Exclude
     private String password;
+    @ToString.Exclude
     private String confirmPassword;
     
     @Enumerated(EnumType.STRING)
     private Roles role;
     private Boolean personStatus=true; // true for active, false for inactive;
+    @ToString.Exclude
     @ManyToMany
     @JoinTable(
         name = "person_project",
         joinColumns = @JoinColumn(name = "person_id"),
         inverseJoinColumns = @JoinColumn(name = "project_id")
     )
-    private List<Project> projects = new ArrayList<>();
+    // Unique (person_id, project_id) is owned by JoinTableConstraintMigration
+    private Set<Project> projects = new LinkedHashSet<>();
 
     @Enumerated(EnumType.STRING)
     private TechStack techStack;
-}
\ No newline at end of file
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || ProxyAwareClasses.effectiveClass(this) != ProxyAwareClasses.effectiveClass(o)) {
+            return false;
+        }
+        Person other = (Person) o;
+        return getPersonId() != null && getPersonId().equals(other.getPersonId());
+    }
+
+    @Override
+    public int hashCode() {
+        // Constant per class so the value does not change when the id is assigned on persist
+        return ProxyAwareClasses.effectiveClass(this).hashCode();
+    }
+}
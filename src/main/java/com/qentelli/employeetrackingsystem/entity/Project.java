@@ -16,12 +16,16 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class Project {
@@ -40,7 +44,26 @@ public class Project {
     private LocalDateTime updatedAt;
     private String updatedBy;
           
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_id", referencedColumnName = "accountId")
     private Account account;
-}
\ No newline at end of file
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || ProxyAwareClasses.effectiveClass(this) != ProxyAwareClasses.effectiveClass(o)) {
+            return false;
+        }
+        Project other = (Project) o;
+        return getProjectId() != null && getProjectId().equals(other.getProjectId());
+    }
+
+    @Override
+    public int hashCode() {
+        // Constant per class so the value does not change when the id is assigned on persist
+        return ProxyAwareClasses.effectiveClass(this).hashCode();
+    }
+}
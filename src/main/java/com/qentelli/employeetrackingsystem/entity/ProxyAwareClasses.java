@@ -0,0 +1,19 @@
+package com.qentelli.employeetrackingsystem.entity;
+
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+
+/**
+ * Resolves the entity class behind a Hibernate proxy without initializing
+ * it, so equals/hashCode never trigger a load.
+ */
+final class ProxyAwareClasses {
+
+	private ProxyAwareClasses() {
+	}
+
+	static Class<?> effectiveClass(Object entity) {
+		LazyInitializer lazy = HibernateProxy.extractLazyInitializer(entity);
+		return lazy != null ? lazy.getPersistentClass() : entity.getClass();
+	}
+}
@@ -0,0 +1,26 @@
+package com.qentelli.employeetrackingsystem.entity;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of live (not soft-deleted) reports per week, project, person and
+ * task status. Kept in step with ViewReports by ViewReportService inside the
+ * same transaction as each report write.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "report_status_rollup")
+public class ReportStatusRollup {
+
+	@EmbeddedId
+	private ReportStatusRollupId id;
+
+	private long reportCount;
+}
@@ -0,0 +1,25 @@
+package com.qentelli.employeetrackingsystem.entity;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class ReportStatusRollupId implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private Integer weekId;
+	private Integer projectId;
+	private Integer personId;
+	@Enumerated(EnumType.STRING)
+	private TaskStatus taskStatus;
+}
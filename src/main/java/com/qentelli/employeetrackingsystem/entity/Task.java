@@ -2,6 +2,8 @@ package com.qentelli.employeetrackingsystem.entity;
 
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
+
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Embeddable;
 import lombok.AllArgsConstructor;
@@ -15,8 +17,10 @@ import lombok.NoArgsConstructor;
 public class Task {
 
 	@ElementCollection
+	@BatchSize(size = 50)
 	private List<String> summary;
 	@ElementCollection
+	@BatchSize(size = 50)
 	private List<String> keyAccomplishment;
 
 }
\ No newline at end of file
@@ -18,10 +18,14 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
@@ -52,7 +56,9 @@ public class User implements UserDetails {
 	@Column(unique = true)
 	private String employeeId;
 	private String userName;
+	@ToString.Exclude
 	private String password;
+	@ToString.Exclude
 	private String confirmPassword;
 	@Enumerated(EnumType.STRING)
 	private Roles roles;
@@ -69,4 +75,21 @@ public class User implements UserDetails {
 		return userName;
 	}
 
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || ProxyAwareClasses.effectiveClass(this) != ProxyAwareClasses.effectiveClass(o)) {
+			return false;
+		}
+		User other = (User) o;
+		return getId() != 0 && getId() == other.getId();
+	}
+
+	@Override
+	public int hashCode() {
+		// Constant per class so the value does not change when the id is assigned on persist
+		return ProxyAwareClasses.effectiveClass(this).hashCode();
+	}
 }
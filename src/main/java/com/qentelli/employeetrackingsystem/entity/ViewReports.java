@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -19,19 +20,27 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "ViewReports")
+// Timesheet reads: one person (or project) for one week or a run of weeks
+@Table(name = "ViewReports", indexes = {
+		@Index(name = "idx_view_reports_person_week", columnList = "person_id, week_id"),
+		@Index(name = "idx_view_reports_project_week", columnList = "project_id, week_id") })
 @EntityListeners(AuditingEntityListener.class)
 public class ViewReports {
 
@@ -45,17 +54,22 @@ public class ViewReports {
 	@Enumerated(EnumType.STRING)
 	private TaskStatus taskStatus;
 
+	@ToString.Exclude
 	@ElementCollection
+	@BatchSize(size = 50) // list views initialize these for 50 reports per query
 	private List<String> comments;
 
+	@ToString.Exclude
 	@ManyToOne
 	@JoinColumn(name = "week_id")
 	private WeeklySummary weeklySummary;
 
+	@ToString.Exclude
 	@ManyToOne
 	@JoinColumn(name = "project_id")
 	private Project project;
 
+	@ToString.Exclude
 	@ManyToOne
 	@JoinColumn(name = "personId")
 	private Person person;
@@ -74,4 +88,22 @@ public class ViewReports {
 	private LocalDateTime updatedAt;
 	@LastModifiedBy
 	private String updatedBy;
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || ProxyAwareClasses.effectiveClass(this) != ProxyAwareClasses.effectiveClass(o)) {
+			return false;
+		}
+		ViewReports other = (ViewReports) o;
+		return getViewReportId() != null && getViewReportId().equals(other.getViewReportId());
+	}
+
+	@Override
+	public int hashCode() {
+		// Constant per class so the value does not change when the id is assigned on persist
+		return ProxyAwareClasses.effectiveClass(this).hashCode();
+	}
 }
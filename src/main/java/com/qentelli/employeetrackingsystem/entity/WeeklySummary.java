@@ -2,8 +2,11 @@ package com.qentelli.employeetrackingsystem.entity;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -18,19 +21,24 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "WeeklySummary")
+@Table(name = "WeeklySummary", indexes = @Index(name = "idx_weekly_summary_start_date", columnList = "week_start_date"))
 @EntityListeners(AuditingEntityListener.class)
 public class WeeklySummary {
 
@@ -40,7 +48,9 @@ public class WeeklySummary {
 	private LocalDate weekStartDate;
 	private LocalDate weekEndDate;
 
+	@ToString.Exclude
 	@ElementCollection
+	@BatchSize(size = 50)
 	@CollectionTable(name = "upcoming_tasks", joinColumns = @JoinColumn(name = "week_id"))
 	@Column(name = "task")
 	private List<String> upcomingTasks;
@@ -63,9 +73,27 @@ public class WeeklySummary {
 	
 	private String weekRange;
 
+	@ToString.Exclude
 	@ManyToMany
+	// Unique (week_id, project_id) is owned by JoinTableConstraintMigration
 	@JoinTable(name = "weekly_summary_project", joinColumns = @JoinColumn(name = "week_id"), inverseJoinColumns = @JoinColumn(name = "project_id"))
-	private List<Project> listProject;
+	private Set<Project> listProject = new LinkedHashSet<>();
 
-	
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || ProxyAwareClasses.effectiveClass(this) != ProxyAwareClasses.effectiveClass(o)) {
+			return false;
+		}
+		WeeklySummary other = (WeeklySummary) o;
+		return getWeekId() != 0 && getWeekId() == other.getWeekId();
+	}
+
+	@Override
+	public int hashCode() {
+		// Constant per class so the value does not change when the id is assigned on persist
+		return ProxyAwareClasses.effectiveClass(this).hashCode();
+	}
 }
@@ -124,6 +124,23 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<AuthResponse<Object>> handleResourceNotFound(ResourceNotFoundException ex, HttpServletRequest request) {
+        logger.warn("Resource not found: {}", ex.getMessage());
+
+        AuthResponse<Object> response = new AuthResponse<>(
+            HttpStatus.NOT_FOUND.value(),
+            RequestProcessStatus.FAILURE,
+            LocalDateTime.now(),
+            "Resource not found for request path: " + request.getRequestURI(),
+            null
+        );
+        response.setErrorCode(HttpStatus.NOT_FOUND);
+        response.setErrorDescription(ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<AuthResponse<Object>> handleValidationErrors(MethodArgumentNotValidException ex) {
         String errorMessages = ex.getBindingResult()
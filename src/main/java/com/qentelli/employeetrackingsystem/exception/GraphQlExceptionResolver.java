@@ -0,0 +1,31 @@
+package com.qentelli.employeetrackingsystem.exception;
+
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * GraphQL counterpart of the REST exception handlers: known exceptions keep
+ * their message and get a matching error type instead of INTERNAL_ERROR.
+ */
+@Component
+public class GraphQlExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+	@Override
+	protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+		ErrorType errorType;
+		if (ex instanceof InvalidInputDataException invalid) {
+			errorType = invalid.getStatus() == HttpStatus.NOT_FOUND ? ErrorType.NOT_FOUND : ErrorType.BAD_REQUEST;
+		} else if (ex instanceof ResourceNotFoundException) {
+			errorType = ErrorType.NOT_FOUND;
+		} else {
+			return null;
+		}
+		return GraphqlErrorBuilder.newError(env).errorType(errorType).message(ex.getMessage()).build();
+	}
+}
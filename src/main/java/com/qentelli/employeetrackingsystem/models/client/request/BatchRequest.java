@@ -0,0 +1,27 @@
+package com.qentelli.employeetrackingsystem.models.client.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequest {
+	private List<SubRequest> requests = new ArrayList<>();
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class SubRequest {
+		private String id; // optional, echoed back with the result
+		private String method = "GET";
+		private String path; // e.g. /Person/active?page=0&size=20
+		private JsonNode body;
+	}
+}
@@ -0,0 +1,24 @@
+package com.qentelli.employeetrackingsystem.models.client.request;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportRequest {
+	private String format = "csv"; // csv or ndjson
+	private boolean gzip;
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate fromWeek; // inclusive, compared with the week start date
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate toWeek;
+	private Integer projectId;
+	private Integer accountId;
+	private Integer personId; // reports only
+}
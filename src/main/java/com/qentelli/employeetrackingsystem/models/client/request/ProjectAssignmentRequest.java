@@ -0,0 +1,31 @@
+package com.qentelli.employeetrackingsystem.models.client.request;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Either every personIds x projectIds combination, explicit pairs, or both.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectAssignmentRequest {
+
+	private Set<Integer> personIds = new LinkedHashSet<>();
+	private Set<Integer> projectIds = new LinkedHashSet<>();
+	private List<Pair> pairs = new ArrayList<>();
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Pair {
+		private Integer personId;
+		private Integer projectId;
+	}
+}
@@ -0,0 +1,29 @@
+package com.qentelli.employeetrackingsystem.models.client.response;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AccountDeactivationResponse {
+
+	public enum JobStatus {
+		QUEUED, RUNNING, COMPLETED, FAILED
+	}
+
+	private String jobId;
+	private Integer accountId;
+	private JobStatus status;
+	private Integer projectsDeactivated;
+	private Integer weeklySummaryLinksRemoved;
+	private Integer personLinksRemoved;
+	private LocalDateTime submittedAt;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+	private String error;
+}
@@ -0,0 +1,22 @@
+package com.qentelli.employeetrackingsystem.models.client.response;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountSummaryResponse {
+	private int accountId;
+	private String accountName;
+	private Boolean accountStatus;
+	private long activeProjects;
+	private long activePersons;
+	private Map<String, Long> activePersonsByRole = new TreeMap<>();
+	private Map<String, Long> activePersonsByTechStack = new TreeMap<>();
+	private Map<String, Long> currentWeekReportsByStatus = new TreeMap<>();
+}
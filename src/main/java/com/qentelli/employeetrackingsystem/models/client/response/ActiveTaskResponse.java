@@ -0,0 +1,26 @@
+package com.qentelli.employeetrackingsystem.models.client.response;
+
+import java.time.LocalDate;
+
+import com.qentelli.employeetrackingsystem.entity.TaskStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActiveTaskResponse {
+	private Integer viewReportId;
+	private String taskName;
+	private TaskStatus taskStatus;
+	private LocalDate taskStartDate;
+	private LocalDate taskEndDate; // null while the task is open-ended
+	private Integer weekId;
+	private Integer projectId;
+	private String projectName;
+	private Integer accountId;
+	private Integer personId;
+	private String personName;
+}
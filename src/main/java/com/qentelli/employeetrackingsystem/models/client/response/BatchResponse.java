@@ -0,0 +1,16 @@
+package com.qentelli.employeetrackingsystem.models.client.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse<T> {
+	private List<T> found = new ArrayList<>(); // in the order the ids were requested
+	private List<Integer> missingIds = new ArrayList<>();
+}
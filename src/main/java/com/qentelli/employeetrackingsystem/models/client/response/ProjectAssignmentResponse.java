@@ -0,0 +1,13 @@
+package com.qentelli.employeetrackingsystem.models.client.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectAssignmentResponse {
+	private int requestedLinks;
+	private int changedLinks; // rows inserted or deleted; already-present/absent links are not counted
+}
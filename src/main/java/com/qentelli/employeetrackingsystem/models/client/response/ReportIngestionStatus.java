@@ -0,0 +1,27 @@
+package com.qentelli.employeetrackingsystem.models.client.response;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReportIngestionStatus {
+
+	public enum State {
+		QUEUED, COMPLETED, FAILED
+	}
+
+	private String trackingId;
+	private State state;
+	private Integer viewReportId;
+	private String error;
+	private LocalDateTime submittedAt;
+	private LocalDateTime finishedAt;
+}
@@ -0,0 +1,20 @@
+package com.qentelli.employeetrackingsystem.models.client.response;
+
+import com.qentelli.employeetrackingsystem.entity.TaskStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportSearchHit {
+	private Integer viewReportId;
+	private float score; // relevance, only comparable within one search
+	private String taskName;
+	private TaskStatus taskStatus;
+	private Integer projectId;
+	private Integer personId;
+	private Integer weekId;
+}
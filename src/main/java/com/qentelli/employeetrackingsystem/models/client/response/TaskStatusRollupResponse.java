@@ -0,0 +1,23 @@
+package com.qentelli.employeetrackingsystem.models.client.response;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.qentelli.employeetrackingsystem.entity.TaskStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskStatusRollupResponse {
+	private Integer weekId;
+	private Integer projectId;
+	private Integer personId;
+	private Map<TaskStatus, Long> statusCounts = new EnumMap<>(TaskStatus.class);
+	private long totalReports;
+}
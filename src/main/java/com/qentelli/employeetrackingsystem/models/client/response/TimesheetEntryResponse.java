@@ -0,0 +1,27 @@
+package com.qentelli.employeetrackingsystem.models.client.response;
+
+import java.time.LocalDate;
+
+import com.qentelli.employeetrackingsystem.entity.TaskStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimesheetEntryResponse {
+	private Integer viewReportId;
+	private Integer weekId;
+	private LocalDate weekStartDate;
+	private LocalDate weekEndDate;
+	private Integer projectId;
+	private String projectName;
+	private Integer personId;
+	private String personName;
+	private String taskName;
+	private TaskStatus taskStatus;
+	private LocalDate taskStartDate;
+	private LocalDate taskEndDate;
+}
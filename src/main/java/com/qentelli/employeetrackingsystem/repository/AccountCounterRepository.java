@@ -0,0 +1,89 @@
+package com.qentelli.employeetrackingsystem.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.qentelli.employeetrackingsystem.entity.AccountCounter;
+import com.qentelli.employeetrackingsystem.entity.AccountCounterId;
+
+@Repository
+public interface AccountCounterRepository extends JpaRepository<AccountCounter, AccountCounterId> {
+
+	interface PersonContribution {
+		Integer getAccountId();
+
+		Integer getPersonId();
+
+		String getRole();
+
+		String getTechStack();
+	}
+
+	@Query("select c from AccountCounter c where c.id.accountId in :accountIds")
+	List<AccountCounter> findByAccountIds(@Param("accountIds") Collection<Integer> accountIds);
+
+	// A null accountId deletes every account's counters
+	@Modifying
+	@Query(value = "DELETE FROM account_counter "
+			+ "WHERE CAST(:accountId AS integer) IS NULL OR account_id = :accountId", nativeQuery = true)
+	void deleteCounters(@Param("accountId") Integer accountId);
+
+	// A null accountId recomputes every account's counters
+	@Modifying
+	@Query(value = "WITH active_links AS ("
+			+ "  SELECT DISTINCT pr.account_id, pe.person_id, pe.role, pe.tech_stack FROM person pe"
+			+ "  JOIN person_project pp ON pp.person_id = pe.person_id"
+			+ "  JOIN project pr ON pr.project_id = pp.project_id"
+			+ "  WHERE pe.person_status = true AND pr.project_status = true AND pr.account_id IS NOT NULL"
+			+ "  AND (CAST(:accountId AS integer) IS NULL OR pr.account_id = :accountId)) "
+			+ "INSERT INTO account_counter (account_id, counter_name, counter_key, counter_value) "
+			+ "SELECT pr.account_id, 'ACTIVE_PROJECTS', '', count(*) FROM project pr"
+			+ "  WHERE pr.project_status = true AND pr.account_id IS NOT NULL"
+			+ "  AND (CAST(:accountId AS integer) IS NULL OR pr.account_id = :accountId)"
+			+ "  GROUP BY pr.account_id "
+			+ "UNION ALL SELECT l.account_id, 'ACTIVE_PERSONS', '', count(DISTINCT l.person_id) FROM active_links l"
+			+ "  GROUP BY l.account_id "
+			+ "UNION ALL SELECT l.account_id, 'ACTIVE_PERSONS_BY_ROLE', coalesce(l.role, 'UNASSIGNED'), count(*)"
+			+ "  FROM active_links l GROUP BY l.account_id, l.role "
+			+ "UNION ALL SELECT l.account_id, 'ACTIVE_PERSONS_BY_TECH_STACK', coalesce(l.tech_stack, 'UNASSIGNED'), count(*)"
+			+ "  FROM active_links l GROUP BY l.account_id, l.tech_stack "
+			+ "ON CONFLICT (account_id, counter_name, counter_key) DO UPDATE SET counter_value = EXCLUDED.counter_value",
+			nativeQuery = true)
+	int recomputeCounters(@Param("accountId") Integer accountId);
+
+	@Modifying
+	@Query(value = "INSERT INTO account_counter (account_id, counter_name, counter_key, counter_value) "
+			+ "VALUES (:accountId, :counterName, :counterKey, :delta) "
+			+ "ON CONFLICT (account_id, counter_name, counter_key) "
+			+ "DO UPDATE SET counter_value = account_counter.counter_value + EXCLUDED.counter_value", nativeQuery = true)
+	int applyDelta(@Param("accountId") Integer accountId, @Param("counterName") String counterName,
+			@Param("counterKey") String counterKey, @Param("delta") long delta);
+
+	// The recompute never writes zero rows; deltas that bring a counter back to zero should not leave one either
+	@Modifying
+	@Query(value = "DELETE FROM account_counter WHERE account_id IN (:accountIds) AND counter_value = 0",
+			nativeQuery = true)
+	void deleteEmptyCounters(@Param("accountIds") Collection<Integer> accountIds);
+
+	// One row per (account, active person) among the given persons, the same rows active_links holds for them
+	@Query(value = "SELECT DISTINCT pr.account_id AS accountId, pe.person_id AS personId, pe.role AS role, "
+			+ "pe.tech_stack AS techStack FROM person pe "
+			+ "JOIN person_project pp ON pp.person_id = pe.person_id "
+			+ "JOIN project pr ON pr.project_id = pp.project_id "
+			+ "WHERE pe.person_id IN (:personIds) AND pe.person_status = true AND pr.project_status = true "
+			+ "AND pr.account_id IS NOT NULL", nativeQuery = true)
+	List<PersonContribution> findContributions(@Param("personIds") Collection<Integer> personIds);
+
+	@Query(value = "SELECT person_id FROM person WHERE person_id IN (:personIds) ORDER BY person_id FOR UPDATE",
+			nativeQuery = true)
+	List<Integer> lockPersons(@Param("personIds") Collection<Integer> personIds);
+
+	@Query(value = "SELECT person_id FROM person_project WHERE project_id = :projectId", nativeQuery = true)
+	List<Integer> findPersonIdsByProjectId(@Param("projectId") Integer projectId);
+}
@@ -1,8 +1,13 @@
 package com.qentelli.employeetrackingsystem.repository;
 
+import java.time.LocalDateTime;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.qentelli.employeetrackingsystem.entity.Account;
@@ -12,8 +17,26 @@ public interface AccountRepository extends JpaRepository<Account, Integer> {
 
 	boolean existsByAccountName(String accountName);
 
+	// Served by the upper(account_name) trigram index (see PostgresIndexInitializer)
 	Page<Account> findByAccountNameContainingIgnoreCase(String accountName, Pageable pageable);
 
+	@Query(value = "SELECT * FROM account a WHERE upper(a.account_name) LIKE upper(:pattern) "
+			+ "ORDER BY similarity(upper(a.account_name), upper(:term)) DESC, a.account_id",
+			countQuery = "SELECT count(*) FROM account a WHERE upper(a.account_name) LIKE upper(:pattern)", nativeQuery = true)
+	Page<Account> searchByName(@Param("term") String term, @Param("pattern") String pattern, Pageable pageable);
+
+	@Query(value = "SELECT * FROM account a WHERE upper(:term) <% upper(a.account_name) "
+			+ "ORDER BY word_similarity(upper(:term), upper(a.account_name)) DESC, a.account_id",
+			countQuery = "SELECT count(*) FROM account a WHERE upper(:term) <% upper(a.account_name)",
+			nativeQuery = true)
+	Page<Account> fuzzySearchByName(@Param("term") String term, Pageable pageable);
+
 	Page<Account> findByAccountStatusTrue(Pageable pageable);
 
+	@Modifying
+	@Query("update Account a set a.accountStatus = false, a.updatedAt = :updatedAt, a.updatedBy = :updatedBy "
+			+ "where a.accountId = :accountId")
+	int deactivate(@Param("accountId") Integer accountId, @Param("updatedAt") LocalDateTime updatedAt,
+			@Param("updatedBy") String updatedBy);
+
 }
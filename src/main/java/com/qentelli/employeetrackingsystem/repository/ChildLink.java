@@ -0,0 +1,12 @@
+package com.qentelli.employeetrackingsystem.repository;
+
+/**
+ * One row of a per-parent ranked id query: a child id and the parent it is
+ * listed under, the first rows of each parent only.
+ */
+public interface ChildLink {
+
+	Integer getParentId();
+
+	Integer getChildId();
+}
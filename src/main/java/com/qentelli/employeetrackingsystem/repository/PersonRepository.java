@@ -1,11 +1,15 @@
 package com.qentelli.employeetrackingsystem.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.qentelli.employeetrackingsystem.entity.Person;
@@ -31,7 +35,61 @@ public interface PersonRepository extends JpaRepository<Person, Integer> {
 	
 	Page<Person> findByPersonStatusTrue(Pageable pageable);
 	 
+	// Served by the upper(first_name) / upper(last_name) trigram indexes (see PostgresIndexInitializer)
 	Page<Person> findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(
 			    String firstName, String lastName, Pageable pageable);
 
+	/** Same expression as the idx_person_full_name_trgm index. */
+	String FULL_NAME = "upper(coalesce(p.first_name, '') || ' ' || coalesce(p.last_name, ''))";
+
+	@Query(value = "SELECT * FROM person p WHERE " + FULL_NAME + " LIKE upper(:pattern) "
+			+ "ORDER BY similarity(" + FULL_NAME + ", upper(:term)) DESC, p.person_id",
+			countQuery = "SELECT count(*) FROM person p WHERE " + FULL_NAME + " LIKE upper(:pattern)", nativeQuery = true)
+	Page<Person> searchByFullName(@Param("term") String term, @Param("pattern") String pattern, Pageable pageable);
+
+	@Query(value = "SELECT * FROM person p WHERE upper(:term) <% " + FULL_NAME
+			+ " ORDER BY word_similarity(upper(:term), " + FULL_NAME + ") DESC, p.person_id",
+			countQuery = "SELECT count(*) FROM person p WHERE upper(:term) <% " + FULL_NAME, nativeQuery = true)
+	Page<Person> fuzzySearchByFullName(@Param("term") String term, Pageable pageable);
+
+	@Query(value = "SELECT project_id FROM person_project WHERE person_id = :personId", nativeQuery = true)
+	List<Integer> findProjectIdsByPersonId(@Param("personId") Integer personId);
+
+	// The first person ids of each project, by id
+	@Query(value = "SELECT parent_id AS parentId, child_id AS childId FROM ("
+			+ "SELECT t.project_id AS parent_id, t.person_id AS child_id, "
+			+ "row_number() OVER (PARTITION BY t.project_id ORDER BY t.person_id) AS rn "
+			+ "FROM person_project t WHERE t.project_id IN (:parentIds)) ranked "
+			+ "WHERE rn <= :first ORDER BY parent_id, rn", nativeQuery = true)
+	List<ChildLink> findFirstPersonIdsByProjectIds(@Param("parentIds") Collection<Integer> projectIds,
+			@Param("first") int first);
+
+	// The first project ids of each person, by id
+	@Query(value = "SELECT parent_id AS parentId, child_id AS childId FROM ("
+			+ "SELECT t.person_id AS parent_id, t.project_id AS child_id, "
+			+ "row_number() OVER (PARTITION BY t.person_id ORDER BY t.project_id) AS rn "
+			+ "FROM person_project t WHERE t.person_id IN (:parentIds)) ranked "
+			+ "WHERE rn <= :first ORDER BY parent_id, rn", nativeQuery = true)
+	List<ChildLink> findFirstProjectIdsByPersonIds(@Param("parentIds") Collection<Integer> personIds,
+			@Param("first") int first);
+
+	@Query("select p.personId from Person p where p.personId in :personIds")
+	List<Integer> findExistingIds(@Param("personIds") Collection<Integer> personIds);
+
+	// Every person x project combination in one statement; existing links are skipped via the
+	// unique constraint JoinTableConstraintMigration adds
+	@Modifying
+	@Query(value = "INSERT INTO person_project (person_id, project_id) "
+			+ "SELECT pe.person_id, pr.project_id FROM person pe CROSS JOIN project pr "
+			+ "WHERE pe.person_id IN (:personIds) AND pr.project_id IN (:projectIds) "
+			+ "ON CONFLICT (person_id, project_id) DO NOTHING", nativeQuery = true)
+	int linkProjects(@Param("personIds") Collection<Integer> personIds,
+			@Param("projectIds") Collection<Integer> projectIds);
+
+	@Modifying
+	@Query(value = "DELETE FROM person_project "
+			+ "WHERE person_id IN (:personIds) AND project_id IN (:projectIds)", nativeQuery = true)
+	int unlinkProjects(@Param("personIds") Collection<Integer> personIds,
+			@Param("projectIds") Collection<Integer> projectIds);
+
 }
\ No newline at end of file
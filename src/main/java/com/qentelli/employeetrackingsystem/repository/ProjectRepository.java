@@ -1,18 +1,86 @@
 package com.qentelli.employeetrackingsystem.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.qentelli.employeetrackingsystem.entity.Account;
 import com.qentelli.employeetrackingsystem.entity.Project;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Integer> {
 	boolean existsByProjectName(String projectName);
 
+	// Served by the upper(project_name) trigram index (see PostgresIndexInitializer)
 	Page<Project> findByProjectNameContainingIgnoreCase(String projectName, Pageable pageable);
 
+	@Query(value = "SELECT * FROM project p WHERE upper(p.project_name) LIKE upper(:pattern) "
+			+ "ORDER BY similarity(upper(p.project_name), upper(:term)) DESC, p.project_id",
+			countQuery = "SELECT count(*) FROM project p WHERE upper(p.project_name) LIKE upper(:pattern)", nativeQuery = true)
+	Page<Project> searchByName(@Param("term") String term, @Param("pattern") String pattern, Pageable pageable);
+
+	@Query(value = "SELECT * FROM project p WHERE upper(:term) <% upper(p.project_name) "
+			+ "ORDER BY word_similarity(upper(:term), upper(p.project_name)) DESC, p.project_id",
+			countQuery = "SELECT count(*) FROM project p WHERE upper(:term) <% upper(p.project_name)",
+			nativeQuery = true)
+	Page<Project> fuzzySearchByName(@Param("term") String term, Pageable pageable);
+
 	Page<Project> findByProjectStatusTrue(Pageable pageable);
 
+	interface ProjectName {
+		Integer getProjectId();
+
+		String getProjectName();
+	}
+
+	@Query("select p.projectId as projectId, p.projectName as projectName from Project p "
+			+ "where p.projectId in :projectIds order by p.projectId")
+	List<ProjectName> findNamesByIds(@Param("projectIds") Collection<Integer> projectIds);
+
+	interface ProjectAccount {
+		Integer getProjectId();
+
+		Account getAccount();
+	}
+
+	// The first project ids of each account, by id
+	@Query(value = "SELECT parent_id AS parentId, child_id AS childId FROM ("
+			+ "SELECT t.account_id AS parent_id, t.project_id AS child_id, "
+			+ "row_number() OVER (PARTITION BY t.account_id ORDER BY t.project_id) AS rn "
+			+ "FROM project t WHERE t.account_id IN (:parentIds)) ranked "
+			+ "WHERE rn <= :first ORDER BY parent_id, rn", nativeQuery = true)
+	List<ChildLink> findFirstIdsByAccountIds(@Param("parentIds") Collection<Integer> accountIds,
+			@Param("first") int first);
+
+	@Query("select p.projectId as projectId, a as account from Project p join p.account a "
+			+ "where p.projectId in :projectIds")
+	List<ProjectAccount> findAccountsByProjectIds(@Param("projectIds") Collection<Integer> projectIds);
+
+	@Query("select p.projectId from Project p where p.projectId in :projectIds")
+	List<Integer> findExistingIds(@Param("projectIds") Collection<Integer> projectIds);
+
+	@Modifying
+	@Query("update Project p set p.projectStatus = false, p.updatedAt = :updatedAt, p.updatedBy = :updatedBy "
+			+ "where p.account.accountId = :accountId and (p.projectStatus is null or p.projectStatus = true)")
+	int deactivateByAccountId(@Param("accountId") Integer accountId, @Param("updatedAt") LocalDateTime updatedAt,
+			@Param("updatedBy") String updatedBy);
+
+	@Modifying
+	@Query(value = "DELETE FROM weekly_summary_project wsp USING project pr "
+			+ "WHERE wsp.project_id = pr.project_id AND pr.account_id = :accountId", nativeQuery = true)
+	int unlinkWeeklySummariesByAccountId(@Param("accountId") Integer accountId);
+
+	@Modifying
+	@Query(value = "DELETE FROM person_project pp USING project pr "
+			+ "WHERE pp.project_id = pr.project_id AND pr.account_id = :accountId", nativeQuery = true)
+	int unlinkPersonsByAccountId(@Param("accountId") Integer accountId);
+
 }
\ No newline at end of file
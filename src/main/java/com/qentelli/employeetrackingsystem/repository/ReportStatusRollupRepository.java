@@ -0,0 +1,79 @@
+package com.qentelli.employeetrackingsystem.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.qentelli.employeetrackingsystem.entity.ReportStatusRollup;
+import com.qentelli.employeetrackingsystem.entity.ReportStatusRollupId;
+import com.qentelli.employeetrackingsystem.entity.TaskStatus;
+
+@Repository
+public interface ReportStatusRollupRepository extends JpaRepository<ReportStatusRollup, ReportStatusRollupId> {
+
+	interface StatusCount {
+		TaskStatus getTaskStatus();
+
+		Long getReportCount();
+	}
+
+	interface GroupedStatusCount extends StatusCount {
+		Integer getGroupKey();
+	}
+
+	@Modifying
+	@Query(value = "INSERT INTO report_status_rollup (week_id, project_id, person_id, task_status, report_count) "
+			+ "VALUES (:weekId, :projectId, :personId, :taskStatus, :delta) "
+			+ "ON CONFLICT (week_id, project_id, person_id, task_status) "
+			+ "DO UPDATE SET report_count = report_status_rollup.report_count + EXCLUDED.report_count", nativeQuery = true)
+	int applyDelta(@Param("weekId") Integer weekId, @Param("projectId") Integer projectId,
+			@Param("personId") Integer personId, @Param("taskStatus") String taskStatus, @Param("delta") long delta);
+
+	@Modifying
+	@Query(value = "DELETE FROM report_status_rollup", nativeQuery = true)
+	void deleteAllRows();
+
+	@Modifying
+	@Query(value = "INSERT INTO report_status_rollup (week_id, project_id, person_id, task_status, report_count) "
+			+ "SELECT week_id, project_id, person_id, task_status, count(*) FROM view_reports "
+			+ "WHERE (soft_delete IS NULL OR soft_delete = false) AND week_id IS NOT NULL "
+			+ "AND project_id IS NOT NULL AND person_id IS NOT NULL AND task_status IS NOT NULL "
+			+ "GROUP BY week_id, project_id, person_id, task_status", nativeQuery = true)
+	int rebuildFromReports();
+
+	String FILTERS = "where r.id.weekId = :weekId and r.reportCount > 0 "
+			+ "and (:projectId is null or r.id.projectId = :projectId) "
+			+ "and (:personId is null or r.id.personId = :personId) "
+			+ "and (:accountId is null or r.id.projectId in "
+			+ "(select p.projectId from Project p where p.account.accountId = :accountId)) ";
+
+	@Query("select r.id.taskStatus as taskStatus, sum(r.reportCount) as reportCount "
+			+ "from ReportStatusRollup r " + FILTERS + "group by r.id.taskStatus")
+	List<StatusCount> countByStatus(@Param("weekId") Integer weekId, @Param("projectId") Integer projectId,
+			@Param("accountId") Integer accountId, @Param("personId") Integer personId);
+
+	@Query("select r.id.projectId as groupKey, r.id.taskStatus as taskStatus, sum(r.reportCount) as reportCount "
+			+ "from ReportStatusRollup r " + FILTERS + "group by r.id.projectId, r.id.taskStatus")
+	List<GroupedStatusCount> countByProjectAndStatus(@Param("weekId") Integer weekId, @Param("projectId") Integer projectId,
+			@Param("accountId") Integer accountId, @Param("personId") Integer personId);
+
+	@Query("select r.id.personId as groupKey, r.id.taskStatus as taskStatus, sum(r.reportCount) as reportCount "
+			+ "from ReportStatusRollup r " + FILTERS + "group by r.id.personId, r.id.taskStatus")
+	List<GroupedStatusCount> countByPersonAndStatus(@Param("weekId") Integer weekId, @Param("projectId") Integer projectId,
+			@Param("accountId") Integer accountId, @Param("personId") Integer personId);
+
+	@Query("select p.account.accountId as groupKey, r.id.taskStatus as taskStatus, sum(r.reportCount) as reportCount "
+			+ "from ReportStatusRollup r, Project p where p.projectId = r.id.projectId and r.reportCount > 0 "
+			+ "and p.account.accountId in :accountIds "
+			+ "and r.id.weekId in (select w.weekId from WeeklySummary w "
+			+ "where w.weekStartDate <= :day and w.weekEndDate >= :day and (w.softDelete is null or w.softDelete = false)) "
+			+ "group by p.account.accountId, r.id.taskStatus")
+	List<GroupedStatusCount> countByAccountForWeekContaining(@Param("day") LocalDate day,
+			@Param("accountIds") Collection<Integer> accountIds);
+}
@@ -1,11 +1,194 @@
 package com.qentelli.employeetrackingsystem.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.qentelli.employeetrackingsystem.entity.TaskStatus;
 import com.qentelli.employeetrackingsystem.entity.ViewReports;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface ViewreportRepository extends JpaRepository<ViewReports, Integer>{
 
+	// Not soft-deleted and linked to a week, project and person, as the inner join fetch below requires
+	String LISTED_REPORT = "(t.soft_delete IS NULL OR t.soft_delete = false) "
+			+ "AND t.week_id IS NOT NULL AND t.project_id IS NOT NULL AND t.person_id IS NOT NULL";
+
+	// The first report ids of each person, by id
+	@Query(value = "SELECT parent_id AS parentId, child_id AS childId FROM ("
+			+ "SELECT t.person_id AS parent_id, t.view_report_id AS child_id, "
+			+ "row_number() OVER (PARTITION BY t.person_id ORDER BY t.view_report_id) AS rn "
+			+ "FROM view_reports t WHERE t.person_id IN (:parentIds) AND " + LISTED_REPORT + ") ranked "
+			+ "WHERE rn <= :first ORDER BY parent_id, rn", nativeQuery = true)
+	List<ChildLink> findFirstIdsByPersonIds(@Param("parentIds") Collection<Integer> personIds,
+			@Param("first") int first);
+
+	// The first report ids of each project, by id
+	@Query(value = "SELECT parent_id AS parentId, child_id AS childId FROM ("
+			+ "SELECT t.project_id AS parent_id, t.view_report_id AS child_id, "
+			+ "row_number() OVER (PARTITION BY t.project_id ORDER BY t.view_report_id) AS rn "
+			+ "FROM view_reports t WHERE t.project_id IN (:parentIds) AND " + LISTED_REPORT + ") ranked "
+			+ "WHERE rn <= :first ORDER BY parent_id, rn", nativeQuery = true)
+	List<ChildLink> findFirstIdsByProjectIds(@Param("parentIds") Collection<Integer> projectIds,
+			@Param("first") int first);
+
+	// The first report ids of each week, by id
+	@Query(value = "SELECT parent_id AS parentId, child_id AS childId FROM ("
+			+ "SELECT t.week_id AS parent_id, t.view_report_id AS child_id, "
+			+ "row_number() OVER (PARTITION BY t.week_id ORDER BY t.view_report_id) AS rn "
+			+ "FROM view_reports t WHERE t.week_id IN (:parentIds) AND " + LISTED_REPORT + ") ranked "
+			+ "WHERE rn <= :first ORDER BY parent_id, rn", nativeQuery = true)
+	List<ChildLink> findFirstIdsByWeekIds(@Param("parentIds") Collection<Integer> weekIds,
+			@Param("first") int first);
+
+	@Query("select r from ViewReports r join fetch r.weeklySummary join fetch r.project join fetch r.person "
+			+ "where r.viewReportId in :ids")
+	List<ViewReports> findWithAssociationsByIds(@Param("ids") Collection<Integer> ids);
+
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+	@Query("select r from ViewReports r join fetch r.weeklySummary w join fetch r.project p join fetch r.person pe "
+			+ "where (r.softDelete is null or r.softDelete = false) "
+			+ "and (:fromWeek is null or w.weekStartDate >= :fromWeek) "
+			+ "and (:toWeek is null or w.weekStartDate <= :toWeek) "
+			+ "and (:projectId is null or p.projectId = :projectId) "
+			+ "and (:accountId is null or p.account.accountId = :accountId) "
+			+ "and (:personId is null or pe.personId = :personId) "
+			+ "order by w.weekStartDate, r.viewReportId")
+	Stream<ViewReports> streamForExport(@Param("fromWeek") LocalDate fromWeek, @Param("toWeek") LocalDate toWeek,
+			@Param("projectId") Integer projectId, @Param("accountId") Integer accountId,
+			@Param("personId") Integer personId);
+
+	interface ExportRow {
+		Integer getViewReportId();
+
+		LocalDate getWeekStartDate();
+
+		LocalDate getWeekEndDate();
+
+		String getProjectName();
+
+		String getFirstName();
+
+		String getLastName();
+
+		String getTaskName();
+
+		TaskStatus getTaskStatus();
+
+		LocalDate getTaskStartDate();
+
+		LocalDate getTaskEndDate();
+
+		LocalDateTime getCreatedAt();
+
+		String getCreatedBy();
+	}
+
+	// Scalar columns only: nothing is managed, so no lazy loads and no detaching per row
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("select r.viewReportId as viewReportId, w.weekStartDate as weekStartDate, w.weekEndDate as weekEndDate, "
+			+ "p.projectName as projectName, pe.firstName as firstName, pe.lastName as lastName, "
+			+ "r.taskName as taskName, r.taskStatus as taskStatus, r.taskStartDate as taskStartDate, "
+			+ "r.taskEndDate as taskEndDate, r.createdAt as createdAt, r.createdBy as createdBy "
+			+ "from ViewReports r join r.weeklySummary w join r.project p join r.person pe "
+			+ "where (r.softDelete is null or r.softDelete = false) "
+			+ "and (:fromWeek is null or w.weekStartDate >= :fromWeek) "
+			+ "and (:toWeek is null or w.weekStartDate <= :toWeek) "
+			+ "and (:projectId is null or p.projectId = :projectId) "
+			+ "and (:accountId is null or p.account.accountId = :accountId) "
+			+ "and (:personId is null or pe.personId = :personId) "
+			+ "order by w.weekStartDate, r.viewReportId")
+	Stream<ExportRow> streamExportRows(@Param("fromWeek") LocalDate fromWeek, @Param("toWeek") LocalDate toWeek,
+			@Param("projectId") Integer projectId, @Param("accountId") Integer accountId,
+			@Param("personId") Integer personId);
+
+	interface TimesheetRow {
+		Integer getViewReportId();
+
+		Integer getWeekId();
+
+		LocalDate getWeekStartDate();
+
+		LocalDate getWeekEndDate();
+
+		Integer getProjectId();
+
+		String getProjectName();
+
+		Integer getPersonId();
+
+		String getFirstName();
+
+		String getLastName();
+
+		String getTaskName();
+
+		TaskStatus getTaskStatus();
+
+		LocalDate getTaskStartDate();
+
+		LocalDate getTaskEndDate();
+	}
+
+	String TIMESHEET_SELECT = "select r.viewReportId as viewReportId, w.weekId as weekId, "
+			+ "w.weekStartDate as weekStartDate, w.weekEndDate as weekEndDate, p.projectId as projectId, "
+			+ "p.projectName as projectName, pe.personId as personId, pe.firstName as firstName, "
+			+ "pe.lastName as lastName, r.taskName as taskName, r.taskStatus as taskStatus, "
+			+ "r.taskStartDate as taskStartDate, r.taskEndDate as taskEndDate "
+			+ "from ViewReports r join r.weeklySummary w join r.project p join r.person pe "
+			+ "where (r.softDelete is null or r.softDelete = false) ";
+
+	// Timesheet reads, served by the (person_id, week_id) / (project_id, week_id) indexes and,
+	// for date ranges, the week_start_date index
+	@Query(TIMESHEET_SELECT + "and pe.personId = :personId and w.weekId = :weekId "
+			+ "order by p.projectName, r.viewReportId")
+	List<TimesheetRow> findTimesheetByPersonAndWeek(@Param("personId") Integer personId,
+			@Param("weekId") Integer weekId);
+
+	@Query(TIMESHEET_SELECT + "and pe.personId = :personId and w.weekStartDate between :from and :to "
+			+ "order by w.weekStartDate, p.projectName, r.viewReportId")
+	List<TimesheetRow> findTimesheetByPersonBetween(@Param("personId") Integer personId,
+			@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+	@Query(TIMESHEET_SELECT + "and p.projectId = :projectId and w.weekId = :weekId "
+			+ "order by pe.lastName, pe.firstName, r.viewReportId")
+	List<TimesheetRow> findTimesheetByProjectAndWeek(@Param("projectId") Integer projectId,
+			@Param("weekId") Integer weekId);
+
+	@Query(TIMESHEET_SELECT + "and p.projectId = :projectId and w.weekStartDate between :from and :to "
+			+ "order by w.weekStartDate, pe.lastName, pe.firstName, r.viewReportId")
+	List<TimesheetRow> findTimesheetByProjectBetween(@Param("projectId") Integer projectId,
+			@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+	interface ReportText {
+		Integer getViewReportId();
+
+		String getText();
+	}
+
+	// The list-valued report fields for a set of reports, one query each instead of three per report
+	@Query("select r.viewReportId as viewReportId, c as text from ViewReports r join r.task.summary c "
+			+ "where r.viewReportId in :ids")
+	List<ReportText> findSummaries(@Param("ids") Collection<Integer> ids);
+
+	@Query("select r.viewReportId as viewReportId, c as text from ViewReports r join r.task.keyAccomplishment c "
+			+ "where r.viewReportId in :ids")
+	List<ReportText> findKeyAccomplishments(@Param("ids") Collection<Integer> ids);
+
+	@Query("select r.viewReportId as viewReportId, c as text from ViewReports r join r.comments c "
+			+ "where r.viewReportId in :ids")
+	List<ReportText> findComments(@Param("ids") Collection<Integer> ids);
+
 }
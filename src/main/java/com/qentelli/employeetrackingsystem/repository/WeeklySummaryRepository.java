@@ -1,11 +1,82 @@
 package com.qentelli.employeetrackingsystem.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.qentelli.employeetrackingsystem.entity.WeeklySummary;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface WeeklySummaryRepository extends JpaRepository<WeeklySummary, Integer> {
 
+	interface ExportRow {
+		Integer getWeekId();
+
+		LocalDate getWeekStartDate();
+
+		LocalDate getWeekEndDate();
+	}
+
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("select w.weekId as weekId, w.weekStartDate as weekStartDate, w.weekEndDate as weekEndDate "
+			+ "from WeeklySummary w "
+			+ "where (w.softDelete is null or w.softDelete = false) "
+			+ "and (:fromWeek is null or w.weekStartDate >= :fromWeek) "
+			+ "and (:toWeek is null or w.weekStartDate <= :toWeek) "
+			+ "and (:projectId is null or exists (select lp from w.listProject lp where lp.projectId = :projectId)) "
+			+ "and (:accountId is null or exists (select lp from w.listProject lp where lp.account.accountId = :accountId)) "
+			+ "order by w.weekStartDate, w.weekId")
+	Stream<ExportRow> streamExportRows(@Param("fromWeek") LocalDate fromWeek, @Param("toWeek") LocalDate toWeek,
+			@Param("projectId") Integer projectId, @Param("accountId") Integer accountId);
+
+	interface WeekText {
+		Integer getWeekId();
+
+		String getText();
+	}
+
+	// The list-valued summary fields for a set of weeks, one query each instead of two per week
+	@Query("select w.weekId as weekId, p.projectName as text from WeeklySummary w join w.listProject p "
+			+ "where w.weekId in :weekIds order by p.projectId")
+	List<WeekText> findProjectNames(@Param("weekIds") Collection<Integer> weekIds);
+
+	@Query("select w.weekId as weekId, t as text from WeeklySummary w join w.upcomingTasks t "
+			+ "where w.weekId in :weekIds")
+	List<WeekText> findUpcomingTasks(@Param("weekIds") Collection<Integer> weekIds);
+
+	// The first project ids of each week, by id
+	@Query(value = "SELECT parent_id AS parentId, child_id AS childId FROM ("
+			+ "SELECT t.week_id AS parent_id, t.project_id AS child_id, "
+			+ "row_number() OVER (PARTITION BY t.week_id ORDER BY t.project_id) AS rn "
+			+ "FROM weekly_summary_project t WHERE t.week_id IN (:parentIds)) ranked "
+			+ "WHERE rn <= :first ORDER BY parent_id, rn", nativeQuery = true)
+	List<ChildLink> findFirstProjectIdsByWeekIds(@Param("parentIds") Collection<Integer> weekIds,
+			@Param("first") int first);
+
+	@Query(value = "SELECT project_id FROM weekly_summary_project WHERE week_id = :weekId", nativeQuery = true)
+	List<Integer> findProjectIdsByWeekId(@Param("weekId") Integer weekId);
+
+	// ON CONFLICT relies on the unique constraint JoinTableConstraintMigration adds
+	@Modifying
+	@Query(value = "INSERT INTO weekly_summary_project (week_id, project_id) "
+			+ "SELECT CAST(:weekId AS integer), pr.project_id FROM project pr WHERE pr.project_id IN (:projectIds) "
+			+ "ON CONFLICT (week_id, project_id) DO NOTHING", nativeQuery = true)
+	int linkProjects(@Param("weekId") Integer weekId, @Param("projectIds") Collection<Integer> projectIds);
+
+	@Modifying
+	@Query(value = "DELETE FROM weekly_summary_project "
+			+ "WHERE week_id = :weekId AND project_id IN (:projectIds)", nativeQuery = true)
+	int unlinkProjects(@Param("weekId") Integer weekId, @Param("projectIds") Collection<Integer> projectIds);
+
 }
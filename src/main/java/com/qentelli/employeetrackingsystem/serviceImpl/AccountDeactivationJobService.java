@@ -0,0 +1,150 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import com.qentelli.employeetrackingsystem.exception.AccountNotFoundException;
+import com.qentelli.employeetrackingsystem.exception.InvalidInputDataException;
+import com.qentelli.employeetrackingsystem.models.client.response.AccountDeactivationResponse;
+import com.qentelli.employeetrackingsystem.models.client.response.AccountDeactivationResponse.JobStatus;
+import com.qentelli.employeetrackingsystem.repository.AccountRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs account deactivations off the request thread for very large accounts.
+ * Jobs are tracked in memory only; finished jobs are dropped after
+ * app.account-deactivation.job-retention.
+ */
+@Service
+public class AccountDeactivationJobService {
+
+	private static final Logger logger = LoggerFactory.getLogger(AccountDeactivationJobService.class);
+
+	private final AccountService accountService;
+	private final AccountRepository accountRepository;
+	private final Duration jobRetention;
+	private final ExecutorService executor;
+	private final Map<String, AccountDeactivationResponse> jobs = new ConcurrentHashMap<>();
+
+	public AccountDeactivationJobService(AccountService accountService, AccountRepository accountRepository,
+			@Value("${app.account-deactivation.job-threads:1}") int jobThreads,
+			@Value("${app.account-deactivation.job-retention:1h}") Duration jobRetention) {
+		this.accountService = accountService;
+		this.accountRepository = accountRepository;
+		this.jobRetention = jobRetention;
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(jobThreads, runnable -> {
+			Thread thread = new Thread(runnable, "account-deactivation-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public AccountDeactivationResponse submit(Integer accountId) {
+		if (!accountRepository.existsById(accountId)) {
+			throw new AccountNotFoundException("Account not found with id: " + accountId);
+		}
+		pruneFinishedJobs();
+		// One running deactivation per account is enough; hand back the existing job
+		for (AccountDeactivationResponse existing : jobs.values()) {
+			AccountDeactivationResponse current = snapshot(existing);
+			if (accountId.equals(current.getAccountId()) && !isFinished(current)) {
+				return current;
+			}
+		}
+
+		// Resolve the user here, the security context does not follow the task
+		String updatedBy = accountService.getAuthenticatedUserFullName();
+		AccountDeactivationResponse job = new AccountDeactivationResponse();
+		job.setJobId(UUID.randomUUID().toString());
+		job.setAccountId(accountId);
+		job.setStatus(JobStatus.QUEUED);
+		job.setSubmittedAt(LocalDateTime.now());
+		jobs.put(job.getJobId(), job);
+
+		executor.execute(() -> run(job, updatedBy));
+		logger.info("Queued deactivation job {} for account {}", job.getJobId(), accountId);
+		return snapshot(job);
+	}
+
+	public AccountDeactivationResponse getJob(String jobId) {
+		AccountDeactivationResponse job = jobs.get(jobId);
+		if (job == null) {
+			throw new InvalidInputDataException(HttpStatus.NOT_FOUND, "Deactivation job not found with id: " + jobId);
+		}
+		return snapshot(job);
+	}
+
+	private void run(AccountDeactivationResponse job, String updatedBy) {
+		synchronized (job) {
+			job.setStatus(JobStatus.RUNNING);
+			job.setStartedAt(LocalDateTime.now());
+		}
+		try {
+			AccountDeactivationResponse result = accountService.deactivateAccount(job.getAccountId(), updatedBy);
+			synchronized (job) {
+				job.setProjectsDeactivated(result.getProjectsDeactivated());
+				job.setWeeklySummaryLinksRemoved(result.getWeeklySummaryLinksRemoved());
+				job.setPersonLinksRemoved(result.getPersonLinksRemoved());
+				job.setStatus(JobStatus.COMPLETED);
+				job.setFinishedAt(LocalDateTime.now());
+			}
+		} catch (RuntimeException ex) {
+			logger.error("Deactivation job {} for account {} failed", job.getJobId(), job.getAccountId(), ex);
+			synchronized (job) {
+				job.setError(ex.getMessage());
+				job.setStatus(JobStatus.FAILED);
+				job.setFinishedAt(LocalDateTime.now());
+			}
+		}
+	}
+
+	private void pruneFinishedJobs() {
+		LocalDateTime cutoff = LocalDateTime.now().minus(jobRetention);
+		jobs.values().removeIf(job -> {
+			synchronized (job) {
+				return isFinished(job) && job.getFinishedAt().isBefore(cutoff);
+			}
+		});
+	}
+
+	private static boolean isFinished(AccountDeactivationResponse job) {
+		return job.getStatus() == JobStatus.COMPLETED || job.getStatus() == JobStatus.FAILED;
+	}
+
+	// Copy under the job's lock so callers never see a half-updated job
+	private static AccountDeactivationResponse snapshot(AccountDeactivationResponse job) {
+		synchronized (job) {
+			AccountDeactivationResponse copy = new AccountDeactivationResponse();
+			copy.setJobId(job.getJobId());
+			copy.setAccountId(job.getAccountId());
+			copy.setStatus(job.getStatus());
+			copy.setProjectsDeactivated(job.getProjectsDeactivated());
+			copy.setWeeklySummaryLinksRemoved(job.getWeeklySummaryLinksRemoved());
+			copy.setPersonLinksRemoved(job.getPersonLinksRemoved());
+			copy.setSubmittedAt(job.getSubmittedAt());
+			copy.setStartedAt(job.getStartedAt());
+			copy.setFinishedAt(job.getFinishedAt());
+			copy.setError(job.getError());
+			return copy;
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdown();
+	}
+}
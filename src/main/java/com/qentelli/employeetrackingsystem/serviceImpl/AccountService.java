@@ -6,33 +6,46 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.qentelli.employeetrackingsystem.entity.Account;
 import com.qentelli.employeetrackingsystem.entity.Person;
-import com.qentelli.employeetrackingsystem.entity.Project;
 import com.qentelli.employeetrackingsystem.entity.User;
 import com.qentelli.employeetrackingsystem.exception.AccountNotFoundException;
 import com.qentelli.employeetrackingsystem.exception.DuplicateAccountException;
+import com.qentelli.employeetrackingsystem.models.client.response.BatchResponse;
 import com.qentelli.employeetrackingsystem.models.client.request.AccountDetailsDto;
+import com.qentelli.employeetrackingsystem.models.client.response.AccountDeactivationResponse;
 import com.qentelli.employeetrackingsystem.repository.AccountRepository;
 import com.qentelli.employeetrackingsystem.repository.PersonRepository;
 import com.qentelli.employeetrackingsystem.repository.ProjectRepository;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class AccountService {
 
+	private static final Logger logger = LoggerFactory.getLogger(AccountService.class);
 	private static final String ACCOUNT_NOT_FOUND = "Account not found with id: ";
 	private final AccountRepository accountRepository;
 	private final PersonRepository personRepository;
 	private final ProjectRepository projectRepository;
+	private final AccountSummaryService accountSummaryService;
 	private final ModelMapper modelMapper;
+	private final BatchGetSupport batchGetSupport;
+
+	@Value("${app.account-deactivation.unlink-weekly-summaries:false}")
+	private boolean unlinkWeeklySummaries;
+
+	@Value("${app.account-deactivation.unlink-persons:false}")
+	private boolean unlinkPersons;
 
 	// CREATE
 	public Account createAccount(AccountDetailsDto dto) {
@@ -45,23 +58,32 @@ public class AccountService {
 	}
 
 	// READ ALL
+	@Transactional(readOnly = true)
 	public List<AccountDetailsDto> getAllAccounts() {
 		return accountRepository.findAll().stream().map(account -> modelMapper.map(account, AccountDetailsDto.class))
 				.toList();
 	}
 
+	@Transactional(readOnly = true)
 	public Page<AccountDetailsDto> getAllActiveAccounts(Pageable pageable) {
 		return accountRepository.findByAccountStatusTrue(pageable)
 				.map(account -> modelMapper.map(account, AccountDetailsDto.class));
 	}
 
 	// READ BY ID
+	@Transactional(readOnly = true)
 	public AccountDetailsDto getAccountById(Integer id) {
 		Account account = accountRepository.findById(id)
 				.orElseThrow(() -> new AccountNotFoundException(ACCOUNT_NOT_FOUND + id));
 		return modelMapper.map(account, AccountDetailsDto.class);
 	}
 
+	@Transactional(readOnly = true)
+	public BatchResponse<AccountDetailsDto> getAccountsByIds(List<Integer> ids) {
+		return batchGetSupport.load(ids, accountRepository::findAllById, Account::getAccountId,
+				account -> modelMapper.map(account, AccountDetailsDto.class));
+	}
+
 	// FULL UPDATE
 	public Account updateAccount(Integer id, AccountDetailsDto dto) {
 		Account existingAccount = accountRepository.findById(id)
@@ -100,34 +122,56 @@ public class AccountService {
 
 	@Transactional
 	public void deleteAccount(Integer id) {
-	    Account account = accountRepository.findById(id)
-	            .orElseThrow(() -> new AccountNotFoundException(ACCOUNT_NOT_FOUND + id));
-
-	    // Soft delete all associated projects
-	    if (account.getProjects() != null) {
-	        for (Project project : account.getProjects()) {
-	            project.setProjectStatus(false);
-	            project.setUpdatedAt(LocalDateTime.now());
-	            project.setUpdatedBy(getAuthenticatedUserFullName());
-	            projectRepository.save(project);
-	        }
-	    }
-
-	    // Soft delete the account
-	    account.setAccountStatus(false);
-	    account.setUpdatedAt(LocalDateTime.now());
-	    account.setUpdatedBy(getAuthenticatedUserFullName());
-	    accountRepository.save(account);
+		deactivateAccount(id, getAuthenticatedUserFullName());
+	}
+
+	/**
+	 * Soft deletes the account and its projects with bulk UPDATEs, so the cost
+	 * does not grow with the number of projects. Optionally removes the
+	 * projects' weekly-summary and person links (app.account-deactivation.*).
+	 * Takes the acting user explicitly so background jobs can call it.
+	 */
+	@Transactional
+	public AccountDeactivationResponse deactivateAccount(Integer id, String updatedBy) {
+		if (!accountRepository.existsById(id)) {
+			throw new AccountNotFoundException(ACCOUNT_NOT_FOUND + id);
+		}
+		LocalDateTime now = LocalDateTime.now();
+
+		AccountDeactivationResponse result = new AccountDeactivationResponse();
+		result.setAccountId(id);
+		result.setProjectsDeactivated(projectRepository.deactivateByAccountId(id, now, updatedBy));
+		if (unlinkWeeklySummaries) {
+			result.setWeeklySummaryLinksRemoved(projectRepository.unlinkWeeklySummariesByAccountId(id));
+		}
+		if (unlinkPersons) {
+			result.setPersonLinksRemoved(projectRepository.unlinkPersonsByAccountId(id));
+		}
+		accountRepository.deactivate(id, now, updatedBy);
+		// Every project of the account is inactive now, so every counter is zero
+		accountSummaryService.clearAccount(id);
+
+		logger.info("Deactivated account {}: {} projects, {} weekly-summary links, {} person links", id,
+				result.getProjectsDeactivated(), result.getWeeklySummaryLinksRemoved(), result.getPersonLinksRemoved());
+		return result;
 	}
-	
-	
 
+	@Transactional(readOnly = true)
 	public Page<Account> searchAccountsByExactName(String name, Pageable pageable) {
 		return accountRepository.findByAccountNameContainingIgnoreCase(name, pageable);
 	}
 
+	/** Name search ranked by trigram similarity; fuzzy also matches misspelled names. */
+	@Transactional(readOnly = true)
+	public Page<AccountDetailsDto> searchAccountsRanked(String name, boolean fuzzy, Pageable pageable) {
+		String term = NameSearch.term(name);
+		Page<Account> page = fuzzy ? accountRepository.fuzzySearchByName(term, pageable)
+				: accountRepository.searchByName(term, NameSearch.containsPattern(term), pageable);
+		return page.map(account -> modelMapper.map(account, AccountDetailsDto.class));
+	}
+
 	// Extracted method for full name resolution
-	private String getAuthenticatedUserFullName() {
+	String getAuthenticatedUserFullName() {
 		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
 		if (auth != null && auth.isAuthenticated() && auth.getPrincipal() instanceof User user) {
 			return user.getFirstName() + " " + user.getLastName();
@@ -0,0 +1,222 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.qentelli.employeetrackingsystem.entity.Account;
+import com.qentelli.employeetrackingsystem.entity.AccountCounter;
+import com.qentelli.employeetrackingsystem.exception.AccountNotFoundException;
+import com.qentelli.employeetrackingsystem.models.client.response.AccountSummaryResponse;
+import com.qentelli.employeetrackingsystem.repository.AccountCounterRepository;
+import com.qentelli.employeetrackingsystem.repository.AccountCounterRepository.PersonContribution;
+import com.qentelli.employeetrackingsystem.repository.AccountRepository;
+import com.qentelli.employeetrackingsystem.repository.ReportStatusRollupRepository;
+import com.qentelli.employeetrackingsystem.repository.ReportStatusRollupRepository.GroupedStatusCount;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serves the account summaries from the account_counter table. Write paths
+ * keep the counters current inside their own transaction by applying deltas:
+ * they snapshot what the persons they touch contribute to the person counters,
+ * make their change, and apply the difference, and they add or subtract
+ * project counts directly. The cost follows the size of the write, not of the
+ * account. Only the scheduled reconcile recomputes everything, to correct any
+ * drift.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountSummaryService {
+
+	private static final Logger logger = LoggerFactory.getLogger(AccountSummaryService.class);
+	private static final String ACCOUNT_NOT_FOUND = "Account not found with id: ";
+	private static final String UNASSIGNED = "UNASSIGNED";
+
+	private record CounterKey(Integer accountId, String counterName, String counterKey) {
+	}
+
+	private static final Comparator<CounterKey> UPSERT_ORDER = Comparator.comparing(CounterKey::accountId)
+			.thenComparing(CounterKey::counterName).thenComparing(CounterKey::counterKey);
+
+	/** What a set of persons contributed to the person counters when the snapshot was taken. */
+	public static final class PersonSnapshot {
+
+		private final Set<Integer> personIds;
+		private final Map<CounterKey, Long> counts;
+
+		private PersonSnapshot(Set<Integer> personIds, Map<CounterKey, Long> counts) {
+			this.personIds = personIds;
+			this.counts = counts;
+		}
+	}
+
+	private final AccountRepository accountRepository;
+	private final AccountCounterRepository counterRepository;
+	private final ReportStatusRollupRepository rollupRepository;
+	private final EntityManager entityManager;
+
+	/**
+	 * Call before changing the persons, their links or the status of their
+	 * projects. Locks the person rows until commit, so concurrent writers on
+	 * the same persons take their snapshots one after the other.
+	 */
+	@Transactional
+	public PersonSnapshot snapshotPersons(Collection<Integer> personIds) {
+		Set<Integer> ids = new LinkedHashSet<>(personIds);
+		ids.remove(null);
+		// The counts are native SQL, so pending entity changes must reach the database first
+		entityManager.flush();
+		List<Integer> sorted = ids.stream().sorted().toList();
+		for (int from = 0; from < sorted.size(); from += ReportTexts.CHUNK) {
+			counterRepository.lockPersons(sorted.subList(from, Math.min(from + ReportTexts.CHUNK, sorted.size())));
+		}
+		return new PersonSnapshot(ids, countPersons(ids));
+	}
+
+	@Transactional
+	public PersonSnapshot snapshotPersonsOfProject(Integer projectId) {
+		return snapshotPersons(counterRepository.findPersonIdsByProjectId(projectId));
+	}
+
+	/** Applies what changed for the snapshot's persons since it was taken. */
+	@Transactional
+	public void applyPersonChanges(PersonSnapshot before) {
+		entityManager.flush();
+		Map<CounterKey, Long> deltas = countPersons(before.personIds);
+		before.counts.forEach((key, count) -> deltas.merge(key, -count, Long::sum));
+		apply(deltas);
+	}
+
+	/** For a person created in this transaction, who contributed nothing before. */
+	@Transactional
+	public void addPerson(Integer personId) {
+		applyPersonChanges(new PersonSnapshot(Set.of(personId), Map.of()));
+	}
+
+	@Transactional
+	public void applyProjectDelta(Integer accountId, long delta) {
+		if (accountId != null && delta != 0) {
+			apply(Map.of(new CounterKey(accountId, AccountCounter.ACTIVE_PROJECTS, ""), delta));
+		}
+	}
+
+	/** For an account whose projects are all inactive now, leaving every counter at zero. */
+	@Transactional
+	public void clearAccount(Integer accountId) {
+		counterRepository.deleteCounters(accountId);
+	}
+
+	private Map<CounterKey, Long> countPersons(Set<Integer> personIds) {
+		Map<CounterKey, Long> counts = new HashMap<>();
+		List<Integer> ids = List.copyOf(personIds);
+		for (int from = 0; from < ids.size(); from += ReportTexts.CHUNK) {
+			for (PersonContribution contribution : counterRepository
+					.findContributions(ids.subList(from, Math.min(from + ReportTexts.CHUNK, ids.size())))) {
+				Integer accountId = contribution.getAccountId();
+				counts.merge(new CounterKey(accountId, AccountCounter.ACTIVE_PERSONS, ""), 1L, Long::sum);
+				counts.merge(new CounterKey(accountId, AccountCounter.ACTIVE_PERSONS_BY_ROLE,
+						orUnassigned(contribution.getRole())), 1L, Long::sum);
+				counts.merge(new CounterKey(accountId, AccountCounter.ACTIVE_PERSONS_BY_TECH_STACK,
+						orUnassigned(contribution.getTechStack())), 1L, Long::sum);
+			}
+		}
+		return counts;
+	}
+
+	// Upserts in a fixed order so two writers on the same counters cannot deadlock
+	private void apply(Map<CounterKey, Long> deltas) {
+		Set<Integer> decremented = new HashSet<>();
+		deltas.entrySet().stream().filter(delta -> delta.getValue() != 0)
+				.sorted(Map.Entry.comparingByKey(UPSERT_ORDER)).forEach(delta -> {
+					CounterKey key = delta.getKey();
+					counterRepository.applyDelta(key.accountId(), key.counterName(), key.counterKey(),
+							delta.getValue());
+					if (delta.getValue() < 0) {
+						decremented.add(key.accountId());
+					}
+				});
+		if (!decremented.isEmpty()) {
+			counterRepository.deleteEmptyCounters(decremented);
+		}
+	}
+
+	private static String orUnassigned(String key) {
+		return key == null ? UNASSIGNED : key;
+	}
+
+	@Scheduled(cron = "${app.account-summary.reconcile-cron:0 0 * * * *}")
+	@Transactional
+	public void reconcile() {
+		long start = System.currentTimeMillis();
+		counterRepository.deleteCounters(null);
+		int rows = counterRepository.recomputeCounters(null);
+		logger.info("Reconciled account counters: {} rows in {} ms", rows, System.currentTimeMillis() - start);
+	}
+
+	@Transactional(readOnly = true)
+	public AccountSummaryResponse getSummary(Integer accountId) {
+		Account account = accountRepository.findById(accountId)
+				.orElseThrow(() -> new AccountNotFoundException(ACCOUNT_NOT_FOUND + accountId));
+		return toSummaries(List.of(account)).get(0);
+	}
+
+	@Transactional(readOnly = true)
+	public Page<AccountSummaryResponse> getActiveSummaries(Pageable pageable) {
+		Page<Account> page = accountRepository.findByAccountStatusTrue(pageable);
+		return new PageImpl<>(toSummaries(page.getContent()), pageable, page.getTotalElements());
+	}
+
+	private List<AccountSummaryResponse> toSummaries(List<Account> accounts) {
+		Map<Integer, AccountSummaryResponse> byId = new HashMap<>();
+		List<AccountSummaryResponse> summaries = accounts.stream().map(account -> {
+			AccountSummaryResponse summary = new AccountSummaryResponse();
+			summary.setAccountId(account.getAccountId());
+			summary.setAccountName(account.getAccountName());
+			summary.setAccountStatus(account.getAccountStatus());
+			byId.put(account.getAccountId(), summary);
+			return summary;
+		}).toList();
+		if (byId.isEmpty()) {
+			return summaries;
+		}
+
+		// Two queries for the whole page: cached counters and this week's rollup
+		for (AccountCounter counter : counterRepository.findByAccountIds(byId.keySet())) {
+			AccountSummaryResponse summary = byId.get(counter.getId().getAccountId());
+			long value = counter.getCounterValue();
+			switch (counter.getId().getCounterName()) {
+			case AccountCounter.ACTIVE_PROJECTS -> summary.setActiveProjects(value);
+			case AccountCounter.ACTIVE_PERSONS -> summary.setActivePersons(value);
+			case AccountCounter.ACTIVE_PERSONS_BY_ROLE ->
+				summary.getActivePersonsByRole().put(counter.getId().getCounterKey(), value);
+			case AccountCounter.ACTIVE_PERSONS_BY_TECH_STACK ->
+				summary.getActivePersonsByTechStack().put(counter.getId().getCounterKey(), value);
+			default -> logger.warn("Ignoring unknown account counter {}", counter.getId().getCounterName());
+			}
+		}
+		for (GroupedStatusCount count : rollupRepository.countByAccountForWeekContaining(LocalDate.now(),
+				byId.keySet())) {
+			long value = count.getReportCount() == null ? 0 : count.getReportCount();
+			byId.get(count.getGroupKey()).getCurrentWeekReportsByStatus().merge(count.getTaskStatus().name(), value,
+					Long::sum);
+		}
+		return summaries;
+	}
+}
@@ -0,0 +1,288 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * One sub-request of a /batch call. Method, path, parameters, body and
+ * attributes are its own; headers and locale are copied from the batch
+ * request up front, so sub-requests running on other threads never read
+ * the container's request object concurrently. Async processing is not
+ * supported.
+ */
+class BatchDispatchRequest extends HttpServletRequestWrapper {
+
+	private final String method;
+	private final String path;
+	private final String queryString;
+	private final byte[] body;
+	private final Map<String, List<String>> headers = new LinkedCaseInsensitiveMap<>();
+	private final Map<String, String[]> parameters = new LinkedHashMap<>();
+	private final Map<String, Object> attributes = new HashMap<>();
+	private final List<Locale> locales;
+
+	BatchDispatchRequest(HttpServletRequest batchRequest, String method, String pathAndQuery, byte[] body) {
+		super(batchRequest);
+		this.method = method;
+		int query = pathAndQuery.indexOf('?');
+		this.path = query < 0 ? pathAndQuery : pathAndQuery.substring(0, query);
+		this.queryString = query < 0 ? null : pathAndQuery.substring(query + 1);
+		this.body = body;
+		this.locales = Collections.list(batchRequest.getLocales());
+
+		for (String name : Collections.list(batchRequest.getHeaderNames())) {
+			// Body and conditional headers belong to the batch call, not to its parts; so does the
+			// token, whose authentication BatchDispatchService hands over as a request attribute
+			if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)
+					&& !HttpHeaders.TRANSFER_ENCODING.equalsIgnoreCase(name)
+					&& !HttpHeaders.AUTHORIZATION.equalsIgnoreCase(name)
+					&& !name.toLowerCase(Locale.ROOT).startsWith("if-")) {
+				headers.put(name, Collections.list(batchRequest.getHeaders(name)));
+			}
+		}
+		if (body.length > 0) {
+			headers.put(HttpHeaders.CONTENT_TYPE, List.of(MediaType.APPLICATION_JSON_VALUE));
+			headers.put(HttpHeaders.CONTENT_LENGTH, List.of(String.valueOf(body.length)));
+		}
+		parseQuery();
+	}
+
+	private void parseQuery() {
+		if (queryString == null || queryString.isEmpty()) {
+			return;
+		}
+		Map<String, List<String>> values = new LinkedHashMap<>();
+		for (String pair : queryString.split("&")) {
+			if (pair.isEmpty()) {
+				continue;
+			}
+			int eq = pair.indexOf('=');
+			String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+			String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+			values.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+		}
+		values.forEach((name, list) -> parameters.put(name, list.toArray(String[]::new)));
+	}
+
+	@Override
+	public String getMethod() {
+		return method;
+	}
+
+	@Override
+	public String getRequestURI() {
+		return getContextPath() + path;
+	}
+
+	@Override
+	public StringBuffer getRequestURL() {
+		StringBuffer url = new StringBuffer();
+		url.append(getScheme()).append("://").append(getServerName()).append(':').append(getServerPort())
+				.append(getRequestURI());
+		return url;
+	}
+
+	@Override
+	public String getServletPath() {
+		return path;
+	}
+
+	@Override
+	public String getPathInfo() {
+		return null;
+	}
+
+	@Override
+	public String getQueryString() {
+		return queryString;
+	}
+
+	@Override
+	public String getParameter(String name) {
+		String[] values = parameters.get(name);
+		return values == null || values.length == 0 ? null : values[0];
+	}
+
+	@Override
+	public Map<String, String[]> getParameterMap() {
+		return Collections.unmodifiableMap(parameters);
+	}
+
+	@Override
+	public Enumeration<String> getParameterNames() {
+		return Collections.enumeration(parameters.keySet());
+	}
+
+	@Override
+	public String[] getParameterValues(String name) {
+		return parameters.get(name);
+	}
+
+	@Override
+	public String getHeader(String name) {
+		List<String> values = headers.get(name);
+		return values == null || values.isEmpty() ? null : values.get(0);
+	}
+
+	@Override
+	public Enumeration<String> getHeaders(String name) {
+		return Collections.enumeration(headers.getOrDefault(name, List.of()));
+	}
+
+	@Override
+	public Enumeration<String> getHeaderNames() {
+		return Collections.enumeration(headers.keySet());
+	}
+
+	@Override
+	public int getIntHeader(String name) {
+		String value = getHeader(name);
+		return value == null ? -1 : Integer.parseInt(value);
+	}
+
+	@Override
+	public long getDateHeader(String name) {
+		// Conditional request headers are not forwarded from the batch request
+		return -1;
+	}
+
+	@Override
+	public String getContentType() {
+		return getHeader(HttpHeaders.CONTENT_TYPE);
+	}
+
+	@Override
+	public int getContentLength() {
+		return body.length;
+	}
+
+	@Override
+	public long getContentLengthLong() {
+		return body.length;
+	}
+
+	@Override
+	public String getCharacterEncoding() {
+		return StandardCharsets.UTF_8.name();
+	}
+
+	@Override
+	public ServletInputStream getInputStream() {
+		ByteArrayInputStream in = new ByteArrayInputStream(body);
+		return new ServletInputStream() {
+			@Override
+			public int read() {
+				return in.read();
+			}
+
+			@Override
+			public int read(byte[] buffer, int offset, int length) {
+				return in.read(buffer, offset, length);
+			}
+
+			@Override
+			public boolean isFinished() {
+				return in.available() == 0;
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			@Override
+			public void setReadListener(ReadListener readListener) {
+				// The servlet contract for non-async requests
+				throw new IllegalStateException("Non-blocking reads cannot be used through /batch");
+			}
+		};
+	}
+
+	@Override
+	public BufferedReader getReader() {
+		return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+	}
+
+	@Override
+	public Object getAttribute(String name) {
+		return attributes.get(name);
+	}
+
+	@Override
+	public Enumeration<String> getAttributeNames() {
+		return Collections.enumeration(new ArrayList<>(attributes.keySet()));
+	}
+
+	@Override
+	public void setAttribute(String name, Object value) {
+		if (value == null) {
+			attributes.remove(name);
+		} else {
+			attributes.put(name, value);
+		}
+	}
+
+	@Override
+	public void removeAttribute(String name) {
+		attributes.remove(name);
+	}
+
+	@Override
+	public Locale getLocale() {
+		return locales.isEmpty() ? Locale.getDefault() : locales.get(0);
+	}
+
+	@Override
+	public Enumeration<Locale> getLocales() {
+		return Collections.enumeration(locales);
+	}
+
+	@Override
+	public DispatcherType getDispatcherType() {
+		return DispatcherType.REQUEST;
+	}
+
+	@Override
+	public boolean isAsyncSupported() {
+		return false;
+	}
+
+	@Override
+	public boolean isAsyncStarted() {
+		return false;
+	}
+
+	@Override
+	public AsyncContext startAsync() {
+		throw new IllegalStateException("Streaming endpoints cannot be called through /batch");
+	}
+
+	@Override
+	public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+		throw new IllegalStateException("Streaming endpoints cannot be called through /batch");
+	}
+}
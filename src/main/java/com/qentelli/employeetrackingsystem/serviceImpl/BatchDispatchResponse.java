@@ -0,0 +1,248 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Captures the status, headers and body written for one /batch sub-request.
+ * Nothing reaches the real response; the batch controller copies the result
+ * into its own JSON envelope.
+ */
+class BatchDispatchResponse extends HttpServletResponseWrapper {
+
+	private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+	private final Map<String, List<String>> headers = new LinkedCaseInsensitiveMap<>();
+	private int status = SC_OK;
+	private String characterEncoding = StandardCharsets.UTF_8.name();
+	private ServletOutputStream outputStream;
+	private PrintWriter writer;
+	private boolean committed;
+
+	BatchDispatchResponse(HttpServletResponse batchResponse) {
+		super(batchResponse);
+	}
+
+	int status() {
+		return status;
+	}
+
+	Map<String, List<String>> headers() {
+		return headers;
+	}
+
+	byte[] body() {
+		if (writer != null) {
+			writer.flush();
+		}
+		return body.toByteArray();
+	}
+
+	@Override
+	public void setStatus(int sc) {
+		if (!committed) {
+			this.status = sc;
+		}
+	}
+
+	@Override
+	public int getStatus() {
+		return status;
+	}
+
+	@Override
+	public void sendError(int sc) {
+		sendError(sc, null);
+	}
+
+	@Override
+	public void sendError(int sc, String msg) {
+		this.status = sc;
+		if (msg != null) {
+			body.reset();
+			body.writeBytes(msg.getBytes(StandardCharsets.UTF_8));
+		}
+		committed = true;
+	}
+
+	@Override
+	public void sendRedirect(String location) {
+		setHeader(HttpHeaders.LOCATION, location);
+		this.status = SC_FOUND;
+		committed = true;
+	}
+
+	@Override
+	public void setHeader(String name, String value) {
+		List<String> values = new ArrayList<>(1);
+		values.add(value);
+		headers.put(name, values);
+	}
+
+	@Override
+	public void addHeader(String name, String value) {
+		headers.computeIfAbsent(name, key -> new ArrayList<>(1)).add(value);
+	}
+
+	@Override
+	public void setIntHeader(String name, int value) {
+		setHeader(name, String.valueOf(value));
+	}
+
+	@Override
+	public void addIntHeader(String name, int value) {
+		addHeader(name, String.valueOf(value));
+	}
+
+	@Override
+	public void setDateHeader(String name, long date) {
+		setHeader(name, String.valueOf(date));
+	}
+
+	@Override
+	public void addDateHeader(String name, long date) {
+		addHeader(name, String.valueOf(date));
+	}
+
+	@Override
+	public boolean containsHeader(String name) {
+		return headers.containsKey(name);
+	}
+
+	@Override
+	public String getHeader(String name) {
+		List<String> values = headers.get(name);
+		return values == null || values.isEmpty() ? null : values.get(0);
+	}
+
+	@Override
+	public Collection<String> getHeaders(String name) {
+		return headers.getOrDefault(name, List.of());
+	}
+
+	@Override
+	public Collection<String> getHeaderNames() {
+		return headers.keySet();
+	}
+
+	@Override
+	public void setContentType(String type) {
+		if (type == null) {
+			headers.remove(HttpHeaders.CONTENT_TYPE);
+		} else {
+			setHeader(HttpHeaders.CONTENT_TYPE, type);
+		}
+	}
+
+	@Override
+	public String getContentType() {
+		return getHeader(HttpHeaders.CONTENT_TYPE);
+	}
+
+	@Override
+	public void setContentLength(int len) {
+		// The batch envelope carries its own length
+	}
+
+	@Override
+	public void setContentLengthLong(long len) {
+		// The batch envelope carries its own length
+	}
+
+	@Override
+	public void setCharacterEncoding(String charset) {
+		if (charset != null) {
+			this.characterEncoding = charset;
+		}
+	}
+
+	@Override
+	public String getCharacterEncoding() {
+		return characterEncoding;
+	}
+
+	@Override
+	public void setLocale(Locale loc) {
+		// Ignored: locale is fixed by the batch response
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() {
+		if (outputStream == null) {
+			outputStream = new ServletOutputStream() {
+				@Override
+				public void write(int b) {
+					body.write(b);
+				}
+
+				@Override
+				public void write(byte[] buffer, int offset, int length) {
+					body.write(buffer, offset, length);
+				}
+
+				@Override
+				public boolean isReady() {
+					return true;
+				}
+
+				@Override
+				public void setWriteListener(WriteListener writeListener) {
+					// The servlet contract for non-async requests
+					throw new IllegalStateException("Non-blocking writes cannot be used through /batch");
+				}
+			};
+		}
+		return outputStream;
+	}
+
+	@Override
+	public PrintWriter getWriter() {
+		if (writer == null) {
+			writer = new PrintWriter(new OutputStreamWriter(body, Charset.forName(characterEncoding)));
+		}
+		return writer;
+	}
+
+	@Override
+	public void flushBuffer() {
+		if (writer != null) {
+			writer.flush();
+		}
+		committed = true;
+	}
+
+	@Override
+	public boolean isCommitted() {
+		return committed;
+	}
+
+	@Override
+	public void reset() {
+		resetBuffer();
+		headers.clear();
+		status = SC_OK;
+	}
+
+	@Override
+	public void resetBuffer() {
+		if (writer != null) {
+			writer.flush();
+		}
+		body.reset();
+	}
+}
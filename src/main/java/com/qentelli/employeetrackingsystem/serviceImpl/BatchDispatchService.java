@@ -0,0 +1,222 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.AbstractSecurityWebApplicationInitializer;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qentelli.employeetrackingsystem.exception.InvalidInputDataException;
+import com.qentelli.employeetrackingsystem.models.client.request.BatchRequest;
+import com.qentelli.employeetrackingsystem.models.client.request.BatchRequest.SubRequest;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Runs the sub-requests of a POST /batch call through the Spring Security
+ * filter chain and the DispatcherServlet, so they get the same authorization
+ * rules, controllers, validation and exception handlers as direct calls. The
+ * token is parsed once, for the batch request: each sub-request carries the
+ * batch's SecurityContext as a request attribute, which the chain loads
+ * instead of running JwtFilter on an Authorization header.
+ *
+ * Consecutive GET/HEAD sub-requests run in parallel. Any other method waits
+ * for everything before it and holds back everything after it, so a write is
+ * visible to the reads that follow it in the batch. Results are written in
+ * request order, each one as soon as it and all earlier ones are done.
+ */
+@Service
+public class BatchDispatchService {
+
+	private static final Logger logger = LoggerFactory.getLogger(BatchDispatchService.class);
+
+	private static final List<String> METHODS = List.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE");
+
+	private final DispatcherServlet dispatcherServlet;
+	private final Filter securityFilterChain;
+	private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
+	private final ObjectMapper objectMapper;
+	private final int maxRequests;
+	private final ExecutorService executor;
+
+	public BatchDispatchService(DispatcherServlet dispatcherServlet,
+			@Qualifier(AbstractSecurityWebApplicationInitializer.DEFAULT_FILTER_NAME) Filter securityFilterChain,
+			ObjectMapper objectMapper,
+			@Value("${app.batch.max-requests:20}") int maxRequests,
+			@Value("${app.batch.threads:8}") int threads) {
+		this.dispatcherServlet = dispatcherServlet;
+		this.securityFilterChain = securityFilterChain;
+		this.objectMapper = objectMapper;
+		this.maxRequests = maxRequests;
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "batch-dispatch-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private record Result(String id, int status, Map<String, List<String>> headers, String contentType,
+			byte[] body) {
+	}
+
+	public void execute(BatchRequest batch, HttpServletRequest request, HttpServletResponse response)
+			throws IOException {
+		List<SubRequest> subRequests = validate(batch);
+		SecurityContext securityContext = SecurityContextHolder.getContext();
+
+		List<CompletableFuture<Result>> results = new ArrayList<>(subRequests.size());
+		CompletableFuture<?> barrier = CompletableFuture.completedFuture(null);
+		List<CompletableFuture<?>> sinceBarrier = new ArrayList<>();
+		for (SubRequest subRequest : subRequests) {
+			byte[] body = subRequest.getBody() == null || subRequest.getBody().isNull() ? new byte[0]
+					: objectMapper.writeValueAsBytes(subRequest.getBody());
+			// Built here so header and locale snapshots are taken on the container thread
+			BatchDispatchRequest dispatchRequest = new BatchDispatchRequest(request, subRequest.getMethod(),
+					subRequest.getPath(), body);
+			BatchDispatchResponse dispatchResponse = new BatchDispatchResponse(response);
+
+			CompletableFuture<Result> result;
+			if (isSafe(subRequest.getMethod())) {
+				result = barrier.thenApplyAsync(
+						ignored -> dispatch(subRequest, dispatchRequest, dispatchResponse, securityContext), executor);
+				sinceBarrier.add(result);
+			} else {
+				sinceBarrier.add(barrier);
+				result = CompletableFuture.allOf(sinceBarrier.toArray(CompletableFuture[]::new)).thenApplyAsync(
+						ignored -> dispatch(subRequest, dispatchRequest, dispatchResponse, securityContext), executor);
+				barrier = result;
+				sinceBarrier.clear();
+			}
+			results.add(result);
+		}
+
+		response.setStatus(HttpStatus.OK.value());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		try (JsonGenerator json = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+			json.writeStartObject();
+			json.writeArrayFieldStart("responses");
+			for (CompletableFuture<Result> result : results) {
+				write(json, result.join());
+				json.flush();
+			}
+			json.writeEndArray();
+			json.writeEndObject();
+		}
+	}
+
+	private List<SubRequest> validate(BatchRequest batch) {
+		List<SubRequest> subRequests = batch == null ? null : batch.getRequests();
+		if (subRequests == null || subRequests.isEmpty()) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "requests must not be empty");
+		}
+		if (subRequests.size() > maxRequests) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST,
+					"A batch can hold at most " + maxRequests + " requests");
+		}
+		for (int i = 0; i < subRequests.size(); i++) {
+			SubRequest subRequest = subRequests.get(i);
+			if (subRequest.getId() == null) {
+				subRequest.setId(String.valueOf(i));
+			}
+			String method = subRequest.getMethod() == null ? "GET" : subRequest.getMethod().toUpperCase();
+			if (!METHODS.contains(method)) {
+				throw new InvalidInputDataException(HttpStatus.BAD_REQUEST,
+						"Unsupported method '" + subRequest.getMethod() + "' in request " + subRequest.getId());
+			}
+			subRequest.setMethod(method);
+			String path = subRequest.getPath();
+			if (path == null || !path.startsWith("/") || path.contains("..")) {
+				throw new InvalidInputDataException(HttpStatus.BAD_REQUEST,
+						"Request " + subRequest.getId() + " needs a path starting with /");
+			}
+			String plainPath = path.split("\\?", 2)[0];
+			if (plainPath.equals("/batch") || plainPath.equals("/batch/")) {
+				throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "Batches cannot be nested");
+			}
+		}
+		return subRequests;
+	}
+
+	private static boolean isSafe(String method) {
+		return "GET".equals(method) || "HEAD".equals(method);
+	}
+
+	private Result dispatch(SubRequest subRequest, BatchDispatchRequest request, BatchDispatchResponse response,
+			SecurityContext securityContext) {
+		try {
+			// Loaded by the chain's SecurityContextHolderFilter in place of a token
+			securityContextRepository.saveContext(securityContext, request, response);
+			securityFilterChain.doFilter(request, response,
+					(servletRequest, servletResponse) -> dispatcherServlet.service(servletRequest, servletResponse));
+			return new Result(subRequest.getId(), response.status(), response.headers(), response.getContentType(),
+					response.body());
+		} catch (Exception ex) {
+			// Anything the exception handlers did not turn into a response
+			logger.error("Batch sub-request {} {} failed", subRequest.getMethod(), subRequest.getPath(), ex);
+			return new Result(subRequest.getId(), HttpStatus.INTERNAL_SERVER_ERROR.value(), Map.of(), null,
+					HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase().getBytes(StandardCharsets.UTF_8));
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+
+	private static void write(JsonGenerator json, Result result) throws IOException {
+		json.writeStartObject();
+		json.writeStringField("id", result.id());
+		json.writeNumberField("status", result.status());
+		json.writeObjectFieldStart("headers");
+		for (Map.Entry<String, List<String>> header : result.headers().entrySet()) {
+			json.writeStringField(header.getKey(), String.join(", ", header.getValue()));
+		}
+		json.writeEndObject();
+		json.writeFieldName("body");
+		if (result.body().length == 0) {
+			json.writeNull();
+		} else if (isJson(result.contentType())) {
+			// Already serialized by the sub-request; embed it as-is instead of re-parsing
+			json.writeRawValue(new String(result.body(), StandardCharsets.UTF_8));
+		} else {
+			json.writeString(new String(result.body(), StandardCharsets.UTF_8));
+		}
+		json.writeEndObject();
+	}
+
+	private static boolean isJson(String contentType) {
+		if (contentType == null) {
+			return false;
+		}
+		MediaType mediaType = MediaType.parseMediaType(contentType);
+		return MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)
+				|| mediaType.getSubtype().endsWith("+json");
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+}
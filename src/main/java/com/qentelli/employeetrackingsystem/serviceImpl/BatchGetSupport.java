@@ -0,0 +1,66 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.qentelli.employeetrackingsystem.exception.InvalidInputDataException;
+import com.qentelli.employeetrackingsystem.models.client.response.BatchResponse;
+
+/**
+ * Shared part of the GET /batch?ids= endpoints: validates the ids, runs the
+ * caller's single IN query and puts the results back in request order.
+ * Callers run it inside their own read-only transaction so the mapping can
+ * use lazy associations (loaded in batches, see default_batch_fetch_size).
+ */
+@Component
+public class BatchGetSupport {
+
+	@Value("${app.batch-get.max-ids:100}")
+	private int maxIds;
+
+	public <E, T> BatchResponse<T> load(List<Integer> ids, Function<Collection<Integer>, List<E>> loader,
+			Function<E, Integer> idOf, Function<E, T> mapper) {
+		Set<Integer> requested = new LinkedHashSet<>();
+		if (ids != null) {
+			for (Integer id : ids) {
+				if (id != null) {
+					requested.add(id);
+				}
+			}
+		}
+		if (requested.isEmpty()) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "ids is required");
+		}
+		if (requested.size() > maxIds) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST,
+					"At most " + maxIds + " ids can be requested at once, got " + requested.size());
+		}
+
+		Map<Integer, E> byId = new HashMap<>();
+		for (E entity : loader.apply(requested)) {
+			byId.put(idOf.apply(entity), entity);
+		}
+
+		List<T> found = new ArrayList<>(byId.size());
+		List<Integer> missingIds = new ArrayList<>();
+		for (Integer id : requested) {
+			E entity = byId.get(id);
+			if (entity != null) {
+				found.add(mapper.apply(entity));
+			} else {
+				missingIds.add(id);
+			}
+		}
+		return new BatchResponse<>(found, missingIds);
+	}
+}
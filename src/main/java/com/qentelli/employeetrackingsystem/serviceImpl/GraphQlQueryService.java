@@ -0,0 +1,231 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.qentelli.employeetrackingsystem.entity.Account;
+import com.qentelli.employeetrackingsystem.entity.Person;
+import com.qentelli.employeetrackingsystem.entity.Project;
+import com.qentelli.employeetrackingsystem.entity.ViewReports;
+import com.qentelli.employeetrackingsystem.entity.WeeklySummary;
+import com.qentelli.employeetrackingsystem.exception.InvalidInputDataException;
+import com.qentelli.employeetrackingsystem.repository.AccountRepository;
+import com.qentelli.employeetrackingsystem.repository.ChildLink;
+import com.qentelli.employeetrackingsystem.repository.PersonRepository;
+import com.qentelli.employeetrackingsystem.repository.ProjectRepository;
+import com.qentelli.employeetrackingsystem.repository.ProjectRepository.ProjectAccount;
+import com.qentelli.employeetrackingsystem.repository.ViewreportRepository;
+import com.qentelli.employeetrackingsystem.repository.WeeklySummaryRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Loads for the GraphQL endpoint. Root queries return one page; the by-ids
+ * methods serve the batch loaders and return the first children of every
+ * parent (ranked per parent in SQL, so no parent loads all of its children),
+ * grouped by parent id. Element collections are initialized before the
+ * transaction ends (in batches of 50) since the entities are read detached.
+ */
+@Service
+@RequiredArgsConstructor
+public class GraphQlQueryService {
+
+	private final AccountRepository accountRepository;
+	private final ProjectRepository projectRepository;
+	private final PersonRepository personRepository;
+	private final WeeklySummaryRepository weeklySummaryRepository;
+	private final ViewreportRepository viewReportRepository;
+
+	@Value("${app.graphql.max-page-size:100}")
+	private int maxPageSize;
+
+	@Transactional(readOnly = true)
+	public List<Account> accounts(int page, int size) {
+		return accountRepository.findByAccountStatusTrue(page(page, size, "accountId")).getContent();
+	}
+
+	@Transactional(readOnly = true)
+	public Account account(Integer id) {
+		return accountRepository.findById(id).orElse(null);
+	}
+
+	@Transactional(readOnly = true)
+	public List<Project> projects(int page, int size) {
+		return projectRepository.findByProjectStatusTrue(page(page, size, "projectId")).getContent();
+	}
+
+	@Transactional(readOnly = true)
+	public Project project(Integer id) {
+		return projectRepository.findById(id).orElse(null);
+	}
+
+	@Transactional(readOnly = true)
+	public List<Person> persons(int page, int size) {
+		return personRepository.findByPersonStatusTrue(page(page, size, "personId")).getContent();
+	}
+
+	@Transactional(readOnly = true)
+	public Person person(Integer id) {
+		return personRepository.findById(id).orElse(null);
+	}
+
+	@Transactional(readOnly = true)
+	public List<WeeklySummary> weeklySummaries(int page, int size) {
+		List<WeeklySummary> weeks = weeklySummaryRepository
+				.findAll(PageRequest.of(page, checkSize(size), Sort.by("weekStartDate").descending())).getContent();
+		weeks.forEach(week -> Hibernate.initialize(week.getUpcomingTasks()));
+		return weeks;
+	}
+
+	@Transactional(readOnly = true)
+	public WeeklySummary weeklySummary(Integer id) {
+		WeeklySummary week = weeklySummaryRepository.findById(id).orElse(null);
+		if (week != null) {
+			Hibernate.initialize(week.getUpcomingTasks());
+		}
+		return week;
+	}
+
+	@Transactional(readOnly = true)
+	public ViewReports report(Integer id) {
+		ViewReports report = viewReportRepository.findById(id).orElse(null);
+		if (report != null) {
+			initialize(List.of(report));
+		}
+		return report;
+	}
+
+	@Transactional(readOnly = true)
+	public Map<Integer, List<Project>> projectsByAccountIds(Collection<Integer> accountIds, int first) {
+		return firstChildren(accountIds, checkSize("first", first), projectRepository::findFirstIdsByAccountIds,
+				projectRepository::findAllById, Project::getProjectId);
+	}
+
+	@Transactional(readOnly = true)
+	public Map<Integer, Account> accountsByProjectIds(Collection<Integer> projectIds) {
+		Map<Integer, Account> accounts = new HashMap<>();
+		for (ProjectAccount row : projectRepository.findAccountsByProjectIds(projectIds)) {
+			accounts.put(row.getProjectId(), row.getAccount());
+		}
+		return accounts;
+	}
+
+	@Transactional(readOnly = true)
+	public Map<Integer, List<Person>> personsByProjectIds(Collection<Integer> projectIds, int first) {
+		return firstChildren(projectIds, checkSize("first", first), personRepository::findFirstPersonIdsByProjectIds,
+				personRepository::findAllById, Person::getPersonId);
+	}
+
+	@Transactional(readOnly = true)
+	public Map<Integer, List<Project>> projectsByPersonIds(Collection<Integer> personIds, int first) {
+		return firstChildren(personIds, checkSize("first", first), personRepository::findFirstProjectIdsByPersonIds,
+				projectRepository::findAllById, Project::getProjectId);
+	}
+
+	@Transactional(readOnly = true)
+	public Map<Integer, List<Project>> projectsByWeekIds(Collection<Integer> weekIds, int first) {
+		return firstChildren(weekIds, checkSize("first", first), weeklySummaryRepository::findFirstProjectIdsByWeekIds,
+				projectRepository::findAllById, Project::getProjectId);
+	}
+
+	@Transactional(readOnly = true)
+	public Map<Integer, List<ViewReports>> reportsByPersonIds(Collection<Integer> personIds, int first) {
+		return firstChildren(personIds, checkSize("first", first), viewReportRepository::findFirstIdsByPersonIds,
+				this::loadReports, ViewReports::getViewReportId);
+	}
+
+	@Transactional(readOnly = true)
+	public Map<Integer, List<ViewReports>> reportsByProjectIds(Collection<Integer> projectIds, int first) {
+		return firstChildren(projectIds, checkSize("first", first), viewReportRepository::findFirstIdsByProjectIds,
+				this::loadReports, ViewReports::getViewReportId);
+	}
+
+	@Transactional(readOnly = true)
+	public Map<Integer, List<ViewReports>> reportsByWeekIds(Collection<Integer> weekIds, int first) {
+		return firstChildren(weekIds, checkSize("first", first), viewReportRepository::findFirstIdsByWeekIds,
+				this::loadReports, ViewReports::getViewReportId);
+	}
+
+	private List<ViewReports> loadReports(Collection<Integer> ids) {
+		return initialize(viewReportRepository.findWithAssociationsByIds(ids));
+	}
+
+	private PageRequest page(int page, int size, String sortBy) {
+		return PageRequest.of(page, checkSize(size), Sort.by(sortBy));
+	}
+
+	private int checkSize(int size) {
+		return checkSize("size", size);
+	}
+
+	private int checkSize(String argument, int size) {
+		if (size < 1 || size > maxPageSize) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST,
+					argument + " must be between 1 and " + maxPageSize);
+		}
+		return size;
+	}
+
+	private static List<ViewReports> initialize(List<ViewReports> reports) {
+		for (ViewReports report : reports) {
+			Hibernate.initialize(report.getComments());
+			if (report.getTask() != null) {
+				Hibernate.initialize(report.getTask().getSummary());
+				Hibernate.initialize(report.getTask().getKeyAccomplishment());
+			}
+			if (report.getWeeklySummary() != null) {
+				Hibernate.initialize(report.getWeeklySummary().getUpcomingTasks());
+			}
+		}
+		return reports;
+	}
+
+	/**
+	 * The first children of every parent: ranked ids per parent, then the
+	 * children themselves by id, both in chunks of ReportTexts.CHUNK ids.
+	 */
+	private static <V> Map<Integer, List<V>> firstChildren(Collection<Integer> parentIds, int first,
+			BiFunction<List<Integer>, Integer, List<ChildLink>> rankedIds, Function<List<Integer>, List<V>> loader,
+			Function<V, Integer> id) {
+		List<ChildLink> links = new ArrayList<>();
+		for (List<Integer> chunk : chunks(List.copyOf(new LinkedHashSet<>(parentIds)))) {
+			links.addAll(rankedIds.apply(chunk, first));
+		}
+		Map<Integer, V> children = new HashMap<>();
+		for (List<Integer> chunk : chunks(links.stream().map(ChildLink::getChildId).distinct().toList())) {
+			loader.apply(chunk).forEach(child -> children.put(id.apply(child), child));
+		}
+
+		Map<Integer, List<V>> grouped = new LinkedHashMap<>();
+		for (ChildLink link : links) {
+			V child = children.get(link.getChildId());
+			if (child != null) {
+				grouped.computeIfAbsent(link.getParentId(), k -> new ArrayList<>()).add(child);
+			}
+		}
+		return grouped;
+	}
+
+	private static List<List<Integer>> chunks(List<Integer> ids) {
+		List<List<Integer>> chunks = new ArrayList<>();
+		for (int from = 0; from < ids.size(); from += ReportTexts.CHUNK) {
+			chunks.add(ids.subList(from, Math.min(from + ReportTexts.CHUNK, ids.size())));
+		}
+		return chunks;
+	}
+}
@@ -0,0 +1,77 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Immutable interval tree over closed [start, end] intervals. The items are
+ * sorted by start and laid out as an implicit balanced tree (the middle of
+ * each range is its root), with the largest end of every subtree kept
+ * alongside, so an overlap query costs O(log n + matches). Matches come back
+ * in start order, ties in the order of the comparator given.
+ */
+final class IntervalTree<T> {
+
+	private final List<T> items;
+	private final long[] starts;
+	private final long[] ends;
+	private final long[] maxEnds;
+
+	IntervalTree(List<T> items, ToLongFunction<T> start, ToLongFunction<T> end, Comparator<T> tieBreak) {
+		List<T> sorted = new ArrayList<>(items);
+		sorted.sort(Comparator.<T>comparingLong(start).thenComparing(tieBreak));
+		this.items = sorted;
+		this.starts = new long[sorted.size()];
+		this.ends = new long[sorted.size()];
+		this.maxEnds = new long[sorted.size()];
+		for (int i = 0; i < sorted.size(); i++) {
+			starts[i] = start.applyAsLong(sorted.get(i));
+			ends[i] = end.applyAsLong(sorted.get(i));
+		}
+		fillMaxEnds(0, sorted.size());
+	}
+
+	int size() {
+		return items.size();
+	}
+
+	/** Items whose interval overlaps [from, to] and that pass the filter, in start order. */
+	List<T> overlapping(long from, long to, Predicate<T> filter) {
+		List<T> matches = new ArrayList<>();
+		collect(0, items.size(), from, to, filter, matches);
+		return matches;
+	}
+
+	private long fillMaxEnds(int lo, int hi) {
+		if (lo >= hi) {
+			return Long.MIN_VALUE;
+		}
+		int mid = (lo + hi) >>> 1;
+		long max = Math.max(ends[mid], Math.max(fillMaxEnds(lo, mid), fillMaxEnds(mid + 1, hi)));
+		maxEnds[mid] = max;
+		return max;
+	}
+
+	private void collect(int lo, int hi, long from, long to, Predicate<T> filter, List<T> matches) {
+		if (lo >= hi) {
+			return;
+		}
+		int mid = (lo + hi) >>> 1;
+		if (maxEnds[mid] < from) {
+			// Everything in this subtree ends before the query starts
+			return;
+		}
+		collect(lo, mid, from, to, filter, matches);
+		if (starts[mid] > to) {
+			// mid and everything to its right start after the query ends
+			return;
+		}
+		if (ends[mid] >= from && filter.test(items.get(mid))) {
+			matches.add(items.get(mid));
+		}
+		collect(mid + 1, hi, from, to, filter, matches);
+	}
+}
@@ -0,0 +1,26 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import org.springframework.http.HttpStatus;
+
+import com.qentelli.employeetrackingsystem.exception.InvalidInputDataException;
+
+/**
+ * Shared input handling for the trigram-backed name searches.
+ */
+final class NameSearch {
+
+	private NameSearch() {
+	}
+
+	static String term(String name) {
+		if (name == null || name.isBlank()) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "name must not be blank");
+		}
+		return name.trim();
+	}
+
+	/** LIKE pattern matching the term anywhere, with its own wildcards escaped. */
+	static String containsPattern(String term) {
+		return "%" + term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+	}
+}
@@ -1,10 +1,18 @@
 package com.qentelli.employeetrackingsystem.serviceImpl;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,10 +20,15 @@ import com.qentelli.employeetrackingsystem.entity.Person;
 import com.qentelli.employeetrackingsystem.entity.Project;
 import com.qentelli.employeetrackingsystem.entity.Roles;
 import com.qentelli.employeetrackingsystem.exception.DuplicatePersonException;
+import com.qentelli.employeetrackingsystem.exception.InvalidInputDataException;
 import com.qentelli.employeetrackingsystem.exception.PersonNotFoundException;
+import com.qentelli.employeetrackingsystem.models.client.response.BatchResponse;
 import com.qentelli.employeetrackingsystem.models.client.request.PersonDTO;
+import com.qentelli.employeetrackingsystem.models.client.request.ProjectAssignmentRequest;
+import com.qentelli.employeetrackingsystem.models.client.response.ProjectAssignmentResponse;
 import com.qentelli.employeetrackingsystem.repository.PersonRepository;
 import com.qentelli.employeetrackingsystem.repository.ProjectRepository;
+import com.qentelli.employeetrackingsystem.serviceImpl.AccountSummaryService.PersonSnapshot;
 
 import lombok.RequiredArgsConstructor;
 
@@ -28,7 +41,14 @@ public class PersonService {
 	private final PersonRepository personRepo;
 	private final ProjectRepository projectRepo;
 	private final ModelMapper modelMapper;
+	private final AccountSummaryService accountSummaryService;
+	private final BatchGetSupport batchGetSupport;
+	private final ReportOverlapService reportOverlapService;
 
+	@Value("${app.person-assignment.max-links:10000}")
+	private int maxAssignmentLinks;
+
+	@Transactional
 	public PersonDTO create(PersonDTO dto) {
 
 		boolean exists = personRepo.existsByEmail(dto.getEmail())
@@ -53,7 +73,7 @@ public class PersonService {
 				throw new IllegalArgumentException("Invalid project IDs: " + missingIds);
 			}
 
-			person.setProjects(projects);
+			person.setProjects(new LinkedHashSet<>(projects));
 		}
 
 		if (dto.getTechStack() != null) {
@@ -61,23 +81,111 @@ public class PersonService {
 		}
 
 		Person saved = personRepo.save(person);
+		accountSummaryService.addPerson(saved.getPersonId());
 		return convertToDTO(saved);
 	}
 
+	@Transactional
 	public void tagProjectsToEmployee(Integer personId, List<Integer> projectIds) {
-		Person person = personRepo.findById(personId).orElseThrow(() -> new RuntimeException("Employee not found"));
+		if (!personRepo.existsById(personId)) {
+			throw new RuntimeException("Employee not found");
+		}
+		if (projectIds == null || projectIds.isEmpty()) {
+			return;
+		}
+		PersonSnapshot before = accountSummaryService.snapshotPersons(List.of(personId));
+		// Unknown project ids and existing links are skipped by the insert itself
+		personRepo.linkProjects(List.of(personId), projectIds);
+		accountSummaryService.applyPersonChanges(before);
+	}
+
+	@Transactional
+	public ProjectAssignmentResponse bulkTagProjects(ProjectAssignmentRequest request) {
+		Map<Set<Integer>, Set<Integer>> groups = groupAssignments(request);
+		PersonSnapshot before = accountSummaryService.snapshotPersons(personIdsOf(groups));
+		int changed = 0;
+		for (Map.Entry<Set<Integer>, Set<Integer>> group : groups.entrySet()) {
+			changed += personRepo.linkProjects(group.getKey(), group.getValue());
+		}
+		accountSummaryService.applyPersonChanges(before);
+		return new ProjectAssignmentResponse(countLinks(groups), changed);
+	}
 
-		List<Project> projectsToAdd = projectRepo.findAllById(projectIds);
+	@Transactional
+	public ProjectAssignmentResponse bulkUntagProjects(ProjectAssignmentRequest request) {
+		Map<Set<Integer>, Set<Integer>> groups = groupAssignments(request);
+		PersonSnapshot before = accountSummaryService.snapshotPersons(personIdsOf(groups));
+		int changed = 0;
+		for (Map.Entry<Set<Integer>, Set<Integer>> group : groups.entrySet()) {
+			changed += personRepo.unlinkProjects(group.getKey(), group.getValue());
+		}
+		accountSummaryService.applyPersonChanges(before);
+		return new ProjectAssignmentResponse(countLinks(groups), changed);
+	}
 
-		// Filter out duplicates to avoid redundant entries
-		List<Project> existingProjects = person.getProjects();
-		for (Project p : projectsToAdd) {
-			if (!existingProjects.contains(p)) {
-				existingProjects.add(p);
+	/**
+	 * Validates the request and groups it as person set -> project set, so a
+	 * plain personIds x projectIds request becomes a single statement and
+	 * explicit pairs need one statement per distinct set of persons.
+	 */
+	private Map<Set<Integer>, Set<Integer>> groupAssignments(ProjectAssignmentRequest request) {
+		Map<Integer, Set<Integer>> personsByProject = new LinkedHashMap<>();
+		if (request.getPersonIds() != null && !request.getPersonIds().isEmpty() && request.getProjectIds() != null) {
+			for (Integer projectId : request.getProjectIds()) {
+				personsByProject.computeIfAbsent(projectId, id -> new LinkedHashSet<>()).addAll(request.getPersonIds());
 			}
 		}
+		List<ProjectAssignmentRequest.Pair> pairs = request.getPairs() == null ? List.of() : request.getPairs();
+		for (ProjectAssignmentRequest.Pair pair : pairs) {
+			if (pair == null || pair.getPersonId() == null || pair.getProjectId() == null) {
+				throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "Each pair needs a personId and a projectId");
+			}
+			personsByProject.computeIfAbsent(pair.getProjectId(), id -> new LinkedHashSet<>()).add(pair.getPersonId());
+		}
+		if (personsByProject.containsKey(null) || personsByProject.values().stream().anyMatch(ids -> ids.contains(null))) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "personIds and projectIds must not contain null");
+		}
+		if (personsByProject.isEmpty()) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST,
+					"Provide personIds and projectIds, or explicit pairs");
+		}
+
+		Map<Set<Integer>, Set<Integer>> groups = new LinkedHashMap<>();
+		personsByProject.forEach((projectId, personIds) -> groups
+				.computeIfAbsent(personIds, ids -> new LinkedHashSet<>()).add(projectId));
+		int links = countLinks(groups);
+		if (links > maxAssignmentLinks) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST,
+					"Request covers " + links + " links; at most " + maxAssignmentLinks + " are allowed per call");
+		}
+
+		Set<Integer> personIds = new LinkedHashSet<>();
+		groups.keySet().forEach(personIds::addAll);
+		List<Integer> missingPersons = missing(personIds, personRepo.findExistingIds(personIds));
+		if (!missingPersons.isEmpty()) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "Invalid person IDs: " + missingPersons);
+		}
+		Set<Integer> projectIds = personsByProject.keySet();
+		List<Integer> missingProjects = missing(projectIds, projectRepo.findExistingIds(projectIds));
+		if (!missingProjects.isEmpty()) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "Invalid project IDs: " + missingProjects);
+		}
+		return groups;
+	}
+
+	private static Set<Integer> personIdsOf(Map<Set<Integer>, Set<Integer>> groups) {
+		Set<Integer> personIds = new LinkedHashSet<>();
+		groups.keySet().forEach(personIds::addAll);
+		return personIds;
+	}
+
+	private static int countLinks(Map<Set<Integer>, Set<Integer>> groups) {
+		return groups.entrySet().stream().mapToInt(group -> group.getKey().size() * group.getValue().size()).sum();
+	}
 
-		personRepo.save(person);
+	private static List<Integer> missing(Collection<Integer> requested, Collection<Integer> found) {
+		Set<Integer> foundIds = new HashSet<>(found);
+		return requested.stream().filter(id -> !foundIds.contains(id)).toList();
 	}
 
 //	public List<PersonDTO> searchByName(String name) {
@@ -85,39 +193,64 @@ public class PersonService {
 //		return people.stream().map(this::convertToDTO).toList();
 //	}
 	
+	@Transactional(readOnly = true)
 	public Page<PersonDTO> searchPersonsByName(String name, Pageable pageable) {
 	    Page<Person> page = personRepo
 	        .findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(name, name, pageable);
 	    return page.map(this::convertToDTO);
 	}
 
+	/**
+	 * Full-name search ranked by trigram similarity. With fuzzy the name only
+	 * has to be close to a word sequence of the full name, so typos still match.
+	 */
+	@Transactional(readOnly = true)
+	public Page<PersonDTO> searchPersonsRanked(String name, boolean fuzzy, Pageable pageable) {
+		String term = NameSearch.term(name);
+		Page<Person> page = fuzzy ? personRepo.fuzzySearchByFullName(term, pageable)
+				: personRepo.searchByFullName(term, NameSearch.containsPattern(term), pageable);
+		return page.map(this::convertToDTO);
+	}
+
+	@Transactional(readOnly = true)
 	public List<PersonDTO> getAllResponses() {
 		return personRepo.findAll().stream().map(this::convertToDTO).toList();
 	}
 	
+	@Transactional(readOnly = true)
 	public Page<PersonDTO> getAllActivePersons(Pageable pageable) {
 	    Page<Person> page = personRepo.findByPersonStatusTrue(pageable);
 	    return page.map(this::convertToDTO);
 	}
 
+	@Transactional(readOnly = true)
+	public BatchResponse<PersonDTO> getPersonsByIds(List<Integer> ids) {
+		return batchGetSupport.load(ids, personRepo::findAllById, Person::getPersonId, this::convertToDTO);
+	}
+
+	@Transactional(readOnly = true)
 	public PersonDTO getByIdResponse(Integer id) {
 		return personRepo.findById(id).map(this::convertToDTO)
 				.orElseThrow(() -> new PersonNotFoundException(PERSON_NOT_FOUND));
 	}
 
+	@Transactional(readOnly = true)
 	public List<PersonDTO> getByRoleResponse(Roles role) {
 		return personRepo.findByRole(role).stream().map(this::convertToDTO).toList();
 	}
 	
+	@Transactional(readOnly = true)
 	public Page<PersonDTO> getByRoleResponse(Roles role, Pageable pageable) {
 	    Page<Person> page = personRepo.findByRoleAndPersonStatusTrue(role, pageable);
 	    return page.map(this::convertToDTO);
 	}
 
+	@Transactional(readOnly = true)
 	public boolean isProjectExists(Integer projectId) {
 		return projectRepo.existsById(projectId);
 	}
 
+	@Transactional(readOnly = true)
 	public Page<PersonDTO> getPersonsByProjectId(Integer projectId, Pageable pageable) {
 	    Page<Person> page = personRepo.findByProjects_ProjectId(projectId, pageable);
 	    return page.map(this::convertToDTO);
@@ -127,6 +260,7 @@ public class PersonService {
 	public PersonDTO update(Integer id, PersonDTO dto) {
 		Person person = personRepo.findById(id)
 				.orElseThrow(() -> new PersonNotFoundException(PERSON_NOT_FOUND + "with id : " + id));
+		PersonSnapshot before = accountSummaryService.snapshotPersons(List.of(id));
 
 		person.setFirstName(dto.getFirstName());
 		person.setLastName(dto.getLastName());
@@ -141,11 +275,13 @@ public class PersonService {
 		}
 
 		if (dto.getProjectIds() != null) {
-			List<Project> projects = projectRepo.findAllById(dto.getProjectIds());
-			person.setProjects(projects);
+			syncProjectLinks(id, dto.getProjectIds());
 		}
 
 		Person saved = personRepo.save(person);
+		// The cached active-task rows carry the person name
+		reportOverlapService.invalidate();
+		accountSummaryService.applyPersonChanges(before);
 		return convertToDTO(saved);
 
 	}
@@ -155,16 +291,36 @@ public class PersonService {
 		Person person = personRepo.findById(personId)
 				.orElseThrow(() -> new PersonNotFoundException(PERSON_NOT_FOUND + "with id :" + personId));
 
+		PersonSnapshot before = accountSummaryService.snapshotPersons(List.of(personId));
 		person.setPersonStatus(false); // Mark as inactive
 		// person.getProjects().clear(); // Optional: detach projects if needed
 
 		personRepo.save(person); // Persist the change
+		accountSummaryService.applyPersonChanges(before);
+	}
+
+	/**
+	 * Writes only the difference between the stored and requested links, so an
+	 * unchanged project list costs one SELECT and no join-table writes.
+	 * Unknown project ids are skipped by the insert, as findAllById did before.
+	 */
+	private void syncProjectLinks(Integer personId, Collection<Integer> requestedIds) {
+		Set<Integer> current = new HashSet<>(personRepo.findProjectIdsByPersonId(personId));
+		Set<Integer> requested = new LinkedHashSet<>(requestedIds);
+		List<Integer> toRemove = current.stream().filter(projectId -> !requested.contains(projectId)).toList();
+		List<Integer> toAdd = requested.stream().filter(projectId -> !current.contains(projectId)).toList();
+		if (!toRemove.isEmpty()) {
+			personRepo.unlinkProjects(List.of(personId), toRemove);
+		}
+		if (!toAdd.isEmpty()) {
+			personRepo.linkProjects(List.of(personId), toAdd);
+		}
 	}
 
 	private PersonDTO convertToDTO(Person person) {
 		PersonDTO dto = modelMapper.map(person, PersonDTO.class);
 
-		List<Project> projects = person.getProjects();
+		Set<Project> projects = person.getProjects();
 		if (projects != null) {
 			dto.setProjectIds(projects.stream().map(Project::getProjectId).toList());
 
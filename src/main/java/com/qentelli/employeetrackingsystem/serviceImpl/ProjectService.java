@@ -1,6 +1,7 @@
 package com.qentelli.employeetrackingsystem.serviceImpl;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
@@ -16,11 +17,13 @@ import com.qentelli.employeetrackingsystem.entity.User;
 import com.qentelli.employeetrackingsystem.exception.AccountNotFoundException;
 import com.qentelli.employeetrackingsystem.exception.DuplicateProjectException;
 import com.qentelli.employeetrackingsystem.exception.ProjectNotFoundException;
+import com.qentelli.employeetrackingsystem.models.client.response.BatchResponse;
 import com.qentelli.employeetrackingsystem.models.client.request.ProjectDTO;
 import com.qentelli.employeetrackingsystem.repository.AccountRepository;
 import com.qentelli.employeetrackingsystem.repository.PersonRepository;
 import com.qentelli.employeetrackingsystem.repository.ProjectRepository;
 import com.qentelli.employeetrackingsystem.repository.WeeklySummaryRepository;
+import com.qentelli.employeetrackingsystem.serviceImpl.AccountSummaryService.PersonSnapshot;
 
 import lombok.RequiredArgsConstructor;
 
@@ -35,8 +38,12 @@ public class ProjectService {
 	private final AccountRepository accountRepo;
 	private final PersonRepository personRepository;
 	private final WeeklySummaryRepository weeklySummaryRepo;
+	private final AccountSummaryService accountSummaryService;
 	private final ModelMapper modelMapper;
+	private final BatchGetSupport batchGetSupport;
+	private final ReportOverlapService reportOverlapService;
 
+	@Transactional
 	public ProjectDTO create(ProjectDTO dto) throws DuplicateProjectException {
 		if (projectRepo.existsByProjectName(dto.getProjectName())) {
 			throw new DuplicateProjectException("A project with this name already exists.");
@@ -47,6 +54,8 @@ public class ProjectService {
 		Project project = modelMapper.map(dto, Project.class);
 		project.setAccount(account);
 		Project saved = projectRepo.save(project);
+		accountSummaryService.applyProjectDelta(account.getAccountId(),
+				Boolean.TRUE.equals(saved.getProjectStatus()) ? 1 : 0);
 		return modelMapper.map(saved, ProjectDTO.class);
 	}
 
@@ -81,6 +90,8 @@ public class ProjectService {
 		//project.setProjectStatus(dto.getProjectStatus());
 		project.setUpdatedAt(LocalDateTime.now());
 		project.setUpdatedBy(getAuthenticatedUserFullName());
+		// The cached active-task rows carry the project name
+		reportOverlapService.invalidate();
 
 		return modelMapper.map(project, ProjectDTO.class);
 	}
@@ -117,6 +128,10 @@ public class ProjectService {
 		Project project = projectRepo.findById(projectId)
 				.orElseThrow(() -> new ProjectNotFoundException(PROJECT_NOT_FOUND + projectId));
 
+		// Only an active project of an account counts towards its summary
+		boolean counted = Boolean.TRUE.equals(project.getProjectStatus()) && project.getAccount() != null;
+		PersonSnapshot before = counted ? accountSummaryService.snapshotPersonsOfProject(projectId) : null;
+
 		// Step 2: Soft delete the project (mark inactive)
 		project.setProjectStatus(false);
 		project.setUpdatedAt(LocalDateTime.now());
@@ -124,7 +139,10 @@ public class ProjectService {
 
 		// Step 3: Save the updated project
 		projectRepo.save(project);
-
+		if (counted) {
+			accountSummaryService.applyPersonChanges(before);
+			accountSummaryService.applyProjectDelta(project.getAccount().getAccountId(), -1);
+		}
 	}
 
 //	public Project softDeleteProject(int id) {
@@ -134,14 +152,31 @@ public class ProjectService {
 //        return projectRepo.save(project);
 //    }
 
+	@Transactional(readOnly = true)
 	public Page<Project> searchProjectsByExactName(String name, Pageable pageable) {
 		return projectRepo.findByProjectNameContainingIgnoreCase(name, pageable);
 	}
 
+	/** Name search ranked by trigram similarity; fuzzy also matches misspelled names. */
+	@Transactional(readOnly = true)
+	public Page<ProjectDTO> searchProjectsRanked(String name, boolean fuzzy, Pageable pageable) {
+		String term = NameSearch.term(name);
+		Page<Project> page = fuzzy ? projectRepo.fuzzySearchByName(term, pageable)
+				: projectRepo.searchByName(term, NameSearch.containsPattern(term), pageable);
+		return page.map(project -> modelMapper.map(project, ProjectDTO.class));
+	}
+
+	@Transactional(readOnly = true)
 	public Page<Project> getactiveProjects(Pageable pageable) {
 		return projectRepo.findByProjectStatusTrue(pageable);
 	}
 
+	@Transactional(readOnly = true)
+	public BatchResponse<ProjectDTO> getProjectsByIds(List<Integer> ids) {
+		return batchGetSupport.load(ids, projectRepo::findAllById, Project::getProjectId,
+				project -> modelMapper.map(project, ProjectDTO.class));
+	}
+
 	private String getAuthenticatedUserFullName() {
 		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
 		if (auth != null && auth.isAuthenticated() && auth.getPrincipal() instanceof User user) {
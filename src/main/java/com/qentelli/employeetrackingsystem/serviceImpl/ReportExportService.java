@@ -0,0 +1,203 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qentelli.employeetrackingsystem.exception.InvalidInputDataException;
+import com.qentelli.employeetrackingsystem.models.client.request.ExportRequest;
+import com.qentelli.employeetrackingsystem.models.client.response.ViewReportResponse;
+import com.qentelli.employeetrackingsystem.models.client.response.WeeklySummaryResponse;
+import com.qentelli.employeetrackingsystem.repository.ViewreportRepository;
+import com.qentelli.employeetrackingsystem.repository.WeeklySummaryRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes reports and weekly summaries straight from a database cursor over
+ * scalar columns, so memory stays flat no matter how many rows match. The
+ * list-valued fields are read per page of rows with one IN query each
+ * rather than lazily per row.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportExportService {
+
+	public enum ExportFormat {
+		CSV("text/csv", "csv"), NDJSON("application/x-ndjson", "ndjson");
+
+		private final String contentType;
+		private final String extension;
+
+		ExportFormat(String contentType, String extension) {
+			this.contentType = contentType;
+			this.extension = extension;
+		}
+
+		public String getContentType() {
+			return contentType;
+		}
+
+		public String getExtension() {
+			return extension;
+		}
+
+		public static ExportFormat from(String value) {
+			try {
+				return ExportFormat.valueOf(value.trim().toUpperCase());
+			} catch (IllegalArgumentException | NullPointerException ex) {
+				throw new InvalidInputDataException(HttpStatus.BAD_REQUEST,
+						"Unsupported export format: '" + value + "'. Allowed values are: csv, ndjson");
+			}
+		}
+	}
+
+	private static final String LIST_SEPARATOR = "; ";
+
+	private final ViewreportRepository viewReportRepository;
+	private final WeeklySummaryRepository weeklySummaryRepository;
+	private final ObjectMapper objectMapper;
+
+	@Transactional(readOnly = true)
+	public void exportReports(ExportRequest request, OutputStream out) throws IOException {
+		ExportFormat format = ExportFormat.from(request.getFormat());
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		if (format == ExportFormat.CSV) {
+			writeCsvLine(writer, "viewReportId", "weekStartDate", "weekEndDate", "projectName", "personName",
+					"taskName", "taskStatus", "taskStartDate", "taskEndDate", "summary", "keyAccomplishment",
+					"comments", "createdAt", "createdBy");
+		}
+
+		try (Stream<ViewreportRepository.ExportRow> rows = viewReportRepository.streamExportRows(
+				request.getFromWeek(), request.getToWeek(), request.getProjectId(), request.getAccountId(),
+				request.getPersonId())) {
+			List<ViewreportRepository.ExportRow> page = new ArrayList<>(ReportTexts.CHUNK);
+			for (Iterator<ViewreportRepository.ExportRow> it = rows.iterator(); it.hasNext();) {
+				page.add(it.next());
+				if (page.size() == ReportTexts.CHUNK || !it.hasNext()) {
+					writeReports(writer, format, page);
+					page.clear();
+				}
+			}
+		}
+		writer.flush();
+	}
+
+	private void writeReports(Writer writer, ExportFormat format, List<ViewreportRepository.ExportRow> page)
+			throws IOException {
+		ReportTexts texts = ReportTexts.load(viewReportRepository,
+				page.stream().map(ViewreportRepository.ExportRow::getViewReportId).toList());
+		for (ViewreportRepository.ExportRow row : page) {
+			Integer id = row.getViewReportId();
+			String personName = row.getFirstName() + " " + row.getLastName();
+			if (format == ExportFormat.CSV) {
+				writeCsvLine(writer, id, row.getWeekStartDate(), row.getWeekEndDate(), row.getProjectName(),
+						personName, row.getTaskName(), row.getTaskStatus(), row.getTaskStartDate(),
+						row.getTaskEndDate(), join(texts.summary(id)), join(texts.keyAccomplishment(id)),
+						join(texts.comments(id)), row.getCreatedAt(), row.getCreatedBy());
+			} else {
+				writeJsonLine(writer, new ViewReportResponse(id, row.getTaskName(), row.getTaskStatus(),
+						texts.summary(id), texts.keyAccomplishment(id), texts.comments(id), row.getProjectName(),
+						personName, row.getTaskStartDate(), row.getTaskEndDate(), row.getCreatedAt(),
+						row.getCreatedBy()));
+			}
+		}
+		writer.flush();
+	}
+
+	@Transactional(readOnly = true)
+	public void exportSummaries(ExportRequest request, OutputStream out) throws IOException {
+		ExportFormat format = ExportFormat.from(request.getFormat());
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		if (format == ExportFormat.CSV) {
+			writeCsvLine(writer, "weekId", "weekStartDate", "weekEndDate", "weekRange", "projectNames",
+					"upcomingTasks");
+		}
+
+		try (Stream<WeeklySummaryRepository.ExportRow> rows = weeklySummaryRepository.streamExportRows(
+				request.getFromWeek(), request.getToWeek(), request.getProjectId(), request.getAccountId())) {
+			List<WeeklySummaryRepository.ExportRow> page = new ArrayList<>(ReportTexts.CHUNK);
+			for (Iterator<WeeklySummaryRepository.ExportRow> it = rows.iterator(); it.hasNext();) {
+				page.add(it.next());
+				if (page.size() == ReportTexts.CHUNK || !it.hasNext()) {
+					writeSummaries(writer, format, page);
+					page.clear();
+				}
+			}
+		}
+		writer.flush();
+	}
+
+	private void writeSummaries(Writer writer, ExportFormat format, List<WeeklySummaryRepository.ExportRow> page)
+			throws IOException {
+		List<Integer> weekIds = page.stream().map(WeeklySummaryRepository.ExportRow::getWeekId).toList();
+		Map<Integer, List<String>> projectNames = group(weeklySummaryRepository.findProjectNames(weekIds));
+		Map<Integer, List<String>> upcomingTasks = group(weeklySummaryRepository.findUpcomingTasks(weekIds));
+		for (WeeklySummaryRepository.ExportRow row : page) {
+			Integer id = row.getWeekId();
+			String weekRange = WeeklySummaryService.weekRange(row.getWeekStartDate(), row.getWeekEndDate());
+			List<String> projects = projectNames.getOrDefault(id, List.of());
+			List<String> tasks = upcomingTasks.getOrDefault(id, List.of());
+			if (format == ExportFormat.CSV) {
+				writeCsvLine(writer, id, row.getWeekStartDate(), row.getWeekEndDate(), weekRange, join(projects),
+						join(tasks));
+			} else {
+				writeJsonLine(writer, new WeeklySummaryResponse(id, row.getWeekStartDate(), row.getWeekEndDate(),
+						tasks, projects, weekRange));
+			}
+		}
+		writer.flush();
+	}
+
+	private static Map<Integer, List<String>> group(List<WeeklySummaryRepository.WeekText> texts) {
+		Map<Integer, List<String>> grouped = new HashMap<>();
+		for (WeeklySummaryRepository.WeekText text : texts) {
+			grouped.computeIfAbsent(text.getWeekId(), id -> new ArrayList<>()).add(text.getText());
+		}
+		return grouped;
+	}
+
+	private void writeJsonLine(Writer writer, Object row) throws IOException {
+		writer.write(objectMapper.writeValueAsString(row));
+		writer.write('\n');
+	}
+
+	private static void writeCsvLine(Writer writer, Object... values) throws IOException {
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			writer.write(csv(values[i]));
+		}
+		writer.write("\r\n");
+	}
+
+	private static String csv(Object value) {
+		if (value == null) {
+			return "";
+		}
+		String text = value.toString();
+		if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+			return text;
+		}
+		return '"' + text.replace("\"", "\"\"") + '"';
+	}
+
+	private static String join(List<String> values) {
+		return values == null ? null : String.join(LIST_SEPARATOR, values);
+	}
+}
@@ -0,0 +1,167 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qentelli.employeetrackingsystem.models.client.request.ViewReportRequest;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Append-only NDJSON journal behind the report ingestion queue. Every accepted
+ * submission is written (and optionally fsynced) before it is acknowledged;
+ * a DONE entry follows once the writer has committed or rejected it. Entries
+ * without a DONE are replayed on startup.
+ */
+final class ReportIngestionJournal implements Closeable {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReportIngestionJournal.class);
+
+	enum EntryType {
+		ENQUEUED, DONE
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	static class Entry {
+		private EntryType type;
+		private String trackingId;
+		private LocalDateTime submittedAt;
+		private String submittedBy;
+		private ViewReportRequest request; // ENQUEUED only
+	}
+
+	private final Path file;
+	private final ObjectMapper objectMapper;
+	private final boolean fsync;
+	private final ReentrantLock lock = new ReentrantLock();
+	private FileChannel channel;
+
+	ReportIngestionJournal(Path file, ObjectMapper objectMapper, boolean fsync) throws IOException {
+		this.file = file;
+		this.objectMapper = objectMapper;
+		this.fsync = fsync;
+		Files.createDirectories(file.toAbsolutePath().getParent());
+		this.channel = open();
+	}
+
+	/**
+	 * ENQUEUED entries that never got a DONE, in submission order. A torn last
+	 * line from a crash mid-write is skipped.
+	 */
+	List<Entry> readPending() throws IOException {
+		lock.lock();
+		try {
+			List<Entry> enqueued = new ArrayList<>();
+			Set<String> done = new HashSet<>();
+			try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					if (line.isBlank()) {
+						continue;
+					}
+					try {
+						Entry entry = objectMapper.readValue(line, Entry.class);
+						if (entry.getType() == EntryType.ENQUEUED) {
+							enqueued.add(entry);
+						} else {
+							done.add(entry.getTrackingId());
+						}
+					} catch (JsonProcessingException ex) {
+						logger.warn("Skipping unreadable journal line in {}", file);
+					}
+				}
+			}
+			enqueued.removeIf(entry -> done.contains(entry.getTrackingId()));
+			return enqueued;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	void append(List<Entry> entries) throws IOException {
+		StringBuilder lines = new StringBuilder();
+		for (Entry entry : entries) {
+			lines.append(objectMapper.writeValueAsString(entry)).append('\n');
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+		lock.lock();
+		try {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			if (fsync) {
+				channel.force(false);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/** Drops everything; only call when no submission is pending. */
+	void truncate() throws IOException {
+		lock.lock();
+		try {
+			channel.truncate(0);
+			if (fsync) {
+				channel.force(false);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/** Replaces the journal with just the given entries (startup compaction). */
+	void rewrite(List<Entry> entries) throws IOException {
+		lock.lock();
+		try {
+			Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+			StringBuilder lines = new StringBuilder();
+			for (Entry entry : entries) {
+				lines.append(objectMapper.writeValueAsString(entry)).append('\n');
+			}
+			Files.writeString(tmp, lines, StandardCharsets.UTF_8);
+			channel.close();
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			channel = open();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		lock.lock();
+		try {
+			channel.close();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private FileChannel open() throws IOException {
+		return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+	}
+}
@@ -0,0 +1,267 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qentelli.employeetrackingsystem.config.AuditorAwareImpl;
+import com.qentelli.employeetrackingsystem.exception.InvalidInputDataException;
+import com.qentelli.employeetrackingsystem.models.client.request.ViewReportRequest;
+import com.qentelli.employeetrackingsystem.models.client.response.ReportIngestionStatus;
+import com.qentelli.employeetrackingsystem.models.client.response.ReportIngestionStatus.State;
+import com.qentelli.employeetrackingsystem.serviceImpl.ReportIngestionJournal.Entry;
+import com.qentelli.employeetrackingsystem.serviceImpl.ReportIngestionJournal.EntryType;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Write-behind path for POST /api/view-report/create?async=true. Submissions
+ * are validated, journaled and put on a bounded ring buffer
+ * (ArrayBlockingQueue); one writer thread drains up to batch-size reports
+ * per transaction. If a batch fails it is retried one report per
+ * transaction so a single bad report does not sink the rest.
+ *
+ * Delivery is at-least-once: a crash between a batch commit and its DONE
+ * journal entries replays that batch on the next start.
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.report-ingestion", name = "enabled", havingValue = "true")
+public class ReportIngestionService {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReportIngestionService.class);
+
+	private final ViewReportService viewReportService;
+	private final AuditorAwareImpl auditorAware;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectMapper objectMapper;
+	private final int capacity;
+	private final int batchSize;
+	private final Path journalFile;
+	private final boolean fsync;
+	private final Duration statusRetention;
+
+	// Guards "check capacity, journal, enqueue" against the writer truncating the journal
+	private final ReentrantLock submitLock = new ReentrantLock();
+	private final Map<String, ReportIngestionStatus> statuses = new ConcurrentHashMap<>();
+	private ArrayBlockingQueue<Entry> queue;
+	private ReportIngestionJournal journal;
+	private Thread writer;
+	private volatile boolean running;
+
+	public ReportIngestionService(ViewReportService viewReportService, AuditorAwareImpl auditorAware,
+			PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+			@Value("${app.report-ingestion.capacity:10000}") int capacity,
+			@Value("${app.report-ingestion.batch-size:200}") int batchSize,
+			@Value("${app.report-ingestion.journal-dir:./data/report-ingestion}") Path journalDir,
+			@Value("${app.report-ingestion.fsync:true}") boolean fsync,
+			@Value("${app.report-ingestion.status-retention:1h}") Duration statusRetention) {
+		this.viewReportService = viewReportService;
+		this.auditorAware = auditorAware;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.objectMapper = objectMapper;
+		this.capacity = capacity;
+		this.batchSize = batchSize;
+		this.journalFile = journalDir.resolve("report-ingestion.ndjson");
+		this.fsync = fsync;
+		this.statusRetention = statusRetention;
+	}
+
+	@PostConstruct
+	void start() throws IOException {
+		journal = new ReportIngestionJournal(journalFile, objectMapper, fsync);
+		List<Entry> pending = journal.readPending();
+		journal.rewrite(pending);
+		queue = new ArrayBlockingQueue<>(Math.max(capacity, pending.size()));
+		for (Entry entry : pending) {
+			statuses.put(entry.getTrackingId(), status(entry, State.QUEUED, null, null));
+			queue.add(entry);
+		}
+		if (!pending.isEmpty()) {
+			logger.info("Replaying {} journaled report submissions from {}", pending.size(), journalFile);
+		}
+
+		running = true;
+		writer = new Thread(this::drainLoop, "report-ingestion-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	public ReportIngestionStatus submit(ViewReportRequest request) {
+		validate(request);
+		Entry entry = new Entry(EntryType.ENQUEUED, UUID.randomUUID().toString(), LocalDateTime.now(),
+				auditorAware.getCurrentAuditor().orElse("System"), request);
+
+		submitLock.lock();
+		try {
+			if (queue.remainingCapacity() == 0) {
+				throw new InvalidInputDataException(HttpStatus.SERVICE_UNAVAILABLE,
+						"Report ingestion queue is full, retry later");
+			}
+			journal.append(List.of(entry));
+			ReportIngestionStatus status = status(entry, State.QUEUED, null, null);
+			statuses.put(entry.getTrackingId(), status);
+			queue.add(entry); // cannot fail: only submitters add, under this lock
+			return status;
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Could not journal report submission", ex);
+		} finally {
+			submitLock.unlock();
+		}
+	}
+
+	public ReportIngestionStatus getStatus(String trackingId) {
+		ReportIngestionStatus status = statuses.get(trackingId);
+		if (status == null) {
+			throw new InvalidInputDataException(HttpStatus.NOT_FOUND, "No report submission with tracking id: " + trackingId);
+		}
+		return status;
+	}
+
+	private static void validate(ViewReportRequest request) {
+		List<String> problems = new ArrayList<>();
+		if (request.getWeekId() <= 0) {
+			problems.add("weekId is required");
+		}
+		if (request.getProjectId() <= 0) {
+			problems.add("projectId is required");
+		}
+		if (request.getPersonId() == null) {
+			problems.add("personId is required");
+		}
+		if (request.getTaskName() == null || request.getTaskName().isBlank()) {
+			problems.add("taskName is required");
+		}
+		if (request.getTaskStatus() == null) {
+			problems.add("taskStatus is required");
+		}
+		if (request.getTaskStartDate() != null && request.getTaskEndDate() != null
+				&& request.getTaskEndDate().isBefore(request.getTaskStartDate())) {
+			problems.add("taskEndDate is before taskStartDate");
+		}
+		if (!problems.isEmpty()) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, String.join(", ", problems));
+		}
+	}
+
+	private void drainLoop() {
+		List<Entry> batch = new ArrayList<>(batchSize);
+		while (running) {
+			try {
+				Entry first = queue.poll(500, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				writeBatch(batch);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException ex) {
+				// Anything left unfinished stays in the journal and is replayed on restart
+				logger.error("Report ingestion writer failed on a batch of {}", batch.size(), ex);
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void writeBatch(List<Entry> batch) {
+		List<ReportIngestionStatus> outcomes = new ArrayList<>(batch.size());
+		try {
+			List<Integer> ids = transactionTemplate.execute(tx -> batch.stream().map(this::save).toList());
+			for (int i = 0; i < batch.size(); i++) {
+				outcomes.add(status(batch.get(i), State.COMPLETED, ids.get(i), null));
+			}
+		} catch (RuntimeException batchFailure) {
+			logger.warn("Batch of {} reports failed, retrying one by one: {}", batch.size(), batchFailure.getMessage());
+			outcomes.clear();
+			for (Entry entry : batch) {
+				try {
+					Integer id = transactionTemplate.execute(tx -> save(entry));
+					outcomes.add(status(entry, State.COMPLETED, id, null));
+				} catch (RuntimeException ex) {
+					outcomes.add(status(entry, State.FAILED, null, ex.getMessage()));
+				}
+			}
+		}
+
+		List<Entry> done = new ArrayList<>(outcomes.size());
+		for (ReportIngestionStatus outcome : outcomes) {
+			statuses.put(outcome.getTrackingId(), outcome);
+			done.add(new Entry(EntryType.DONE, outcome.getTrackingId(), null, null, null));
+		}
+		submitLock.lock();
+		try {
+			if (queue.isEmpty()) {
+				journal.truncate(); // nothing pending, start the journal over
+			} else {
+				journal.append(done);
+			}
+		} catch (IOException ex) {
+			throw new UncheckedIOException("Could not journal report outcomes", ex);
+		} finally {
+			submitLock.unlock();
+		}
+		pruneStatuses();
+	}
+
+	private Integer save(Entry entry) {
+		// Auditing reads the creator from the security context; restore the submitter's
+		SecurityContext context = SecurityContextHolder.createEmptyContext();
+		context.setAuthentication(new UsernamePasswordAuthenticationToken(entry.getSubmittedBy(), null, List.of()));
+		SecurityContextHolder.setContext(context);
+		try {
+			return viewReportService.saveReport(entry.getRequest());
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+
+	private void pruneStatuses() {
+		LocalDateTime cutoff = LocalDateTime.now().minus(statusRetention);
+		statuses.values().removeIf(status -> status.getFinishedAt() != null && status.getFinishedAt().isBefore(cutoff));
+	}
+
+	private static ReportIngestionStatus status(Entry entry, State state, Integer viewReportId, String error) {
+		return new ReportIngestionStatus(entry.getTrackingId(), state, viewReportId, error, entry.getSubmittedAt(),
+				state == State.QUEUED ? null : LocalDateTime.now());
+	}
+
+	@PreDestroy
+	void stop() throws IOException, InterruptedException {
+		running = false;
+		if (writer != null) {
+			// Let the current batch finish; interrupt only if it is stuck
+			writer.join(TimeUnit.SECONDS.toMillis(10));
+			writer.interrupt();
+		}
+		if (journal != null) {
+			journal.close();
+		}
+	}
+}
@@ -0,0 +1,294 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.qentelli.employeetrackingsystem.config.ReadReplicaRoutingDataSource;
+import com.qentelli.employeetrackingsystem.entity.TaskStatus;
+import com.qentelli.employeetrackingsystem.exception.InvalidInputDataException;
+import com.qentelli.employeetrackingsystem.models.client.response.ActiveTaskResponse;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+/**
+ * Finds the reports whose task period (taskStartDate..taskEndDate, both
+ * inclusive, open-ended when there is no end date) overlaps a date range.
+ *
+ * Queries go to PostgreSQL as a daterange overlap served by the GiST index
+ * created in PostgresIndexInitializer; PERIOD and PERIOD_INDEX_PREDICATE must
+ * stay identical to the index expression and WHERE clause or the planner will not use it.
+ * Reports without a start date, or ending before they start, are not part of
+ * the index and are never returned.
+ *
+ * Ranges that fall inside the hot weeks (the current week and the
+ * app.report-overlap.hot-weeks - 1 before it) are answered from an in-memory
+ * interval tree of the reports overlapping those weeks instead. The tree
+ * also holds project, account and person names, so report writes and
+ * project or person updates drop it once their transaction commits; the
+ * next query reloads it, from the primary so replica lag cannot put the old
+ * rows back.
+ */
+@Service
+public class ReportOverlapService {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReportOverlapService.class);
+
+	private static final String PERIOD = "daterange(r.task_start_date, r.task_end_date, '[]')";
+	private static final String PERIOD_INDEX_PREDICATE = "r.task_start_date IS NOT NULL "
+			+ "AND (r.task_end_date IS NULL OR r.task_end_date >= r.task_start_date) "
+			+ "AND (r.soft_delete IS NULL OR r.soft_delete = false)";
+
+	private static final String SELECT = "SELECT r.view_report_id, r.task_name, r.task_status, r.task_start_date, "
+			+ "r.task_end_date, r.week_id, p.project_id, p.project_name, p.account_id, pe.person_id, "
+			+ "pe.first_name, pe.last_name ";
+	private static final String FROM = "FROM view_reports r JOIN project p ON p.project_id = r.project_id "
+			+ "JOIN person pe ON pe.person_id = r.person_id ";
+	private static final String ORDER_BY = " ORDER BY r.task_start_date, r.view_report_id";
+
+	private record Row(Integer viewReportId, String taskName, TaskStatus taskStatus, LocalDate taskStartDate,
+			LocalDate taskEndDate, Integer weekId, Integer projectId, String projectName, Integer accountId,
+			Integer personId, String personName) {
+	}
+
+	private record Filters(Integer projectId, Integer accountId, Integer personId, TaskStatus taskStatus) {
+
+		static final Filters NONE = new Filters(null, null, null, null);
+
+		boolean matches(Row row) {
+			return (projectId == null || projectId.equals(row.projectId()))
+					&& (accountId == null || accountId.equals(row.accountId()))
+					&& (personId == null || personId.equals(row.personId()))
+					&& (taskStatus == null || taskStatus == row.taskStatus());
+		}
+	}
+
+	/** The hot weeks and their reports; tree is null when they held more than max-cached-rows. */
+	private record HotWeeks(LocalDate windowStart, LocalDate windowEnd, IntervalTree<Row> tree) {
+	}
+
+	private final EntityManager entityManager;
+	private final int hotWeekCount;
+	private final int maxCachedRows;
+	private final int maxPageSize;
+	private final TransactionTemplate readOnlyTransaction;
+	private final AtomicLong generation = new AtomicLong();
+	private final ReentrantLock loadLock = new ReentrantLock();
+	private volatile HotWeeks hotWeeks;
+	private volatile boolean writtenSinceLoad;
+
+	public ReportOverlapService(EntityManager entityManager, PlatformTransactionManager transactionManager,
+			@Value("${app.report-overlap.hot-weeks:4}") int hotWeekCount,
+			@Value("${app.report-overlap.max-cached-rows:50000}") int maxCachedRows,
+			@Value("${app.report-overlap.max-page-size:100}") int maxPageSize) {
+		this.entityManager = entityManager;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.hotWeekCount = hotWeekCount;
+		this.maxCachedRows = maxCachedRows;
+		this.maxPageSize = maxPageSize;
+	}
+
+	public Page<ActiveTaskResponse> findActive(LocalDate from, LocalDate to, Integer projectId, Integer accountId,
+			Integer personId, String taskStatus, int page, int size) {
+		if (from == null) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "from is required");
+		}
+		LocalDate until = to == null ? from : to;
+		if (from.isAfter(until)) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "from must not be after to");
+		}
+		if (page < 0 || size < 1 || size > maxPageSize) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST,
+					"page must be >= 0 and size between 1 and " + maxPageSize);
+		}
+		Filters filters = new Filters(projectId, accountId, personId,
+				taskStatus == null ? null : parseStatus(taskStatus));
+		PageRequest pageRequest = PageRequest.of(page, size);
+
+		HotWeeks hot = hotWeeks();
+		if (hot != null && hot.tree() != null && !from.isBefore(hot.windowStart())
+				&& !until.isAfter(hot.windowEnd())) {
+			List<Row> matches = hot.tree().overlapping(from.toEpochDay(), until.toEpochDay(), filters::matches);
+			int first = (int) Math.min(pageRequest.getOffset(), matches.size());
+			int last = Math.min(first + size, matches.size());
+			return new PageImpl<>(matches.subList(first, last).stream().map(ReportOverlapService::toResponse)
+					.toList(), pageRequest, matches.size());
+		}
+
+		return readOnlyTransaction.execute(status -> {
+			List<Row> rows = query(from, until, filters, (int) pageRequest.getOffset(), size);
+			// A short, non-empty (or first) page already tells the total; skip the count query
+			long total = rows.size() < size && (page == 0 || !rows.isEmpty())
+					? pageRequest.getOffset() + rows.size()
+					: count(from, until, filters);
+			return new PageImpl<>(rows.stream().map(ReportOverlapService::toResponse).toList(), pageRequest, total);
+		});
+	}
+
+	/** Drops the hot-week tree once the current transaction commits; call after any write to reports or their names. */
+	public void invalidate() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					drop();
+				}
+			});
+		} else {
+			drop();
+		}
+	}
+
+	private void drop() {
+		generation.incrementAndGet();
+		writtenSinceLoad = true;
+		hotWeeks = null;
+	}
+
+	private HotWeeks hotWeeks() {
+		if (hotWeekCount < 1) {
+			return null;
+		}
+		LocalDate windowStart = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+				.minusWeeks(hotWeekCount - 1L);
+		HotWeeks current = hotWeeks;
+		if (current != null && current.windowStart().equals(windowStart)) {
+			return current;
+		}
+		return loadHotWeeks(windowStart);
+	}
+
+	private HotWeeks loadHotWeeks(LocalDate windowStart) {
+		// Not synchronized: the load below is a JDBC round trip, and a monitor held across it pins virtual threads
+		loadLock.lock();
+		try {
+			HotWeeks current = hotWeeks;
+			if (current != null && current.windowStart().equals(windowStart)) {
+				return current;
+			}
+			long loadedGeneration = generation.get();
+			boolean afterWrite = writtenSinceLoad;
+			LocalDate windowEnd = windowStart.plusWeeks(hotWeekCount).minusDays(1);
+			Supplier<List<Row>> load = () -> readOnlyTransaction
+					.execute(status -> query(windowStart, windowEnd, Filters.NONE, 0, maxCachedRows + 1));
+			List<Row> rows = afterWrite ? ReadReplicaRoutingDataSource.onPrimary(load) : load.get();
+			IntervalTree<Row> tree = null;
+			if (rows.size() > maxCachedRows) {
+				logger.warn("Hot weeks from {} hold more than {} reports; overlap queries will use the database",
+						windowStart, maxCachedRows);
+			} else {
+				tree = new IntervalTree<>(rows, row -> row.taskStartDate().toEpochDay(),
+						row -> row.taskEndDate() == null ? Long.MAX_VALUE : row.taskEndDate().toEpochDay(),
+						Comparator.comparing(Row::viewReportId));
+			}
+			HotWeeks loaded = new HotWeeks(windowStart, windowEnd, tree);
+			// A write that committed while loading may be missing from the rows; serve them once but do not keep them
+			if (generation.get() == loadedGeneration) {
+				writtenSinceLoad = false;
+				hotWeeks = loaded;
+			}
+			return loaded;
+		} finally {
+			loadLock.unlock();
+		}
+	}
+
+	private List<Row> query(LocalDate from, LocalDate to, Filters filters, int offset, int limit) {
+		Map<String, Object> parameters = new LinkedHashMap<>();
+		Query query = entityManager.createNativeQuery(SELECT + FROM + where(from, to, filters, parameters) + ORDER_BY);
+		parameters.forEach(query::setParameter);
+		query.setFirstResult(offset);
+		query.setMaxResults(limit);
+		@SuppressWarnings("unchecked")
+		List<Object[]> results = query.getResultList();
+		return results.stream().map(ReportOverlapService::toRow).toList();
+	}
+
+	private long count(LocalDate from, LocalDate to, Filters filters) {
+		Map<String, Object> parameters = new LinkedHashMap<>();
+		Query query = entityManager.createNativeQuery("SELECT count(*) " + FROM + where(from, to, filters, parameters));
+		parameters.forEach(query::setParameter);
+		return ((Number) query.getSingleResult()).longValue();
+	}
+
+	private static String where(LocalDate from, LocalDate to, Filters filters, Map<String, Object> parameters) {
+		StringBuilder where = new StringBuilder("WHERE ").append(PERIOD_INDEX_PREDICATE).append(" AND ")
+				.append(PERIOD).append(" && daterange(:from, :to, '[]')");
+		parameters.put("from", from);
+		parameters.put("to", to);
+		if (filters.projectId() != null) {
+			where.append(" AND r.project_id = :projectId");
+			parameters.put("projectId", filters.projectId());
+		}
+		if (filters.accountId() != null) {
+			where.append(" AND p.account_id = :accountId");
+			parameters.put("accountId", filters.accountId());
+		}
+		if (filters.personId() != null) {
+			where.append(" AND r.person_id = :personId");
+			parameters.put("personId", filters.personId());
+		}
+		if (filters.taskStatus() != null) {
+			where.append(" AND r.task_status = :taskStatus");
+			parameters.put("taskStatus", filters.taskStatus().name());
+		}
+		return where.toString();
+	}
+
+	private static TaskStatus parseStatus(String value) {
+		try {
+			return TaskStatus.valueOf(value.trim().toUpperCase());
+		} catch (IllegalArgumentException ex) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "Invalid taskStatus: '" + value
+					+ "'. Allowed values are: " + Arrays.toString(TaskStatus.values()));
+		}
+	}
+
+	private static Row toRow(Object[] columns) {
+		return new Row(integer(columns[0]), (String) columns[1],
+				columns[2] == null ? null : TaskStatus.valueOf(columns[2].toString()), date(columns[3]),
+				date(columns[4]), integer(columns[5]), integer(columns[6]), (String) columns[7], integer(columns[8]),
+				integer(columns[9]), columns[10] + " " + columns[11]);
+	}
+
+	private static ActiveTaskResponse toResponse(Row row) {
+		return new ActiveTaskResponse(row.viewReportId(), row.taskName(), row.taskStatus(), row.taskStartDate(),
+				row.taskEndDate(), row.weekId(), row.projectId(), row.projectName(), row.accountId(), row.personId(),
+				row.personName());
+	}
+
+	private static Integer integer(Object value) {
+		return value == null ? null : ((Number) value).intValue();
+	}
+
+	private static LocalDate date(Object value) {
+		if (value instanceof Date sqlDate) {
+			return sqlDate.toLocalDate();
+		}
+		return (LocalDate) value;
+	}
+}
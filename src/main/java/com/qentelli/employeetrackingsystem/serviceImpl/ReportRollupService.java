@@ -0,0 +1,119 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.qentelli.employeetrackingsystem.entity.TaskStatus;
+import com.qentelli.employeetrackingsystem.entity.ViewReports;
+import com.qentelli.employeetrackingsystem.exception.InvalidInputDataException;
+import com.qentelli.employeetrackingsystem.models.client.response.TaskStatusRollupResponse;
+import com.qentelli.employeetrackingsystem.repository.ReportStatusRollupRepository;
+import com.qentelli.employeetrackingsystem.repository.ReportStatusRollupRepository.GroupedStatusCount;
+import com.qentelli.employeetrackingsystem.repository.ReportStatusRollupRepository.StatusCount;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Maintains the per week/project/person/status report counts. The record
+ * methods must run inside the caller's transaction so a report write and its
+ * rollup delta commit or roll back together.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportRollupService {
+
+	public enum GroupBy {
+		NONE, PROJECT, PERSON
+	}
+
+	private final ReportStatusRollupRepository rollupRepository;
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void recordAdded(ViewReports report) {
+		adjust(report, 1);
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void recordRemoved(ViewReports report) {
+		adjust(report, -1);
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void adjust(Integer weekId, Integer projectId, Integer personId, TaskStatus taskStatus, long delta) {
+		// Reports missing any part of the key are not counted (same rule as rebuild)
+		if (weekId == null || projectId == null || personId == null || taskStatus == null) {
+			return;
+		}
+		rollupRepository.applyDelta(weekId, projectId, personId, taskStatus.name(), delta);
+	}
+
+	@Transactional
+	public int rebuild() {
+		rollupRepository.deleteAllRows();
+		return rollupRepository.rebuildFromReports();
+	}
+
+	@Transactional(readOnly = true)
+	public List<TaskStatusRollupResponse> summarize(Integer weekId, Integer projectId, Integer accountId,
+			Integer personId, String groupBy) {
+		if (weekId == null) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "weekId is required");
+		}
+		GroupBy grouping;
+		try {
+			grouping = GroupBy.valueOf(groupBy.trim().toUpperCase());
+		} catch (IllegalArgumentException ex) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST,
+					"Invalid groupBy: '" + groupBy + "'. Allowed values are: none, project, person");
+		}
+
+		if (grouping == GroupBy.NONE) {
+			TaskStatusRollupResponse response = new TaskStatusRollupResponse();
+			response.setWeekId(weekId);
+			response.setProjectId(projectId);
+			response.setPersonId(personId);
+			for (StatusCount count : rollupRepository.countByStatus(weekId, projectId, accountId, personId)) {
+				add(response, count);
+			}
+			return List.of(response);
+		}
+
+		List<GroupedStatusCount> counts = grouping == GroupBy.PROJECT
+				? rollupRepository.countByProjectAndStatus(weekId, projectId, accountId, personId)
+				: rollupRepository.countByPersonAndStatus(weekId, projectId, accountId, personId);
+		Map<Integer, TaskStatusRollupResponse> byKey = new LinkedHashMap<>();
+		for (GroupedStatusCount count : counts) {
+			TaskStatusRollupResponse response = byKey.computeIfAbsent(count.getGroupKey(), key -> {
+				TaskStatusRollupResponse r = new TaskStatusRollupResponse();
+				r.setWeekId(weekId);
+				r.setProjectId(grouping == GroupBy.PROJECT ? key : projectId);
+				r.setPersonId(grouping == GroupBy.PERSON ? key : personId);
+				return r;
+			});
+			add(response, count);
+		}
+		return List.copyOf(byKey.values());
+	}
+
+	private void adjust(ViewReports report, long delta) {
+		if (Boolean.TRUE.equals(report.getSoftDelete())) {
+			return;
+		}
+		adjust(report.getWeeklySummary() != null ? report.getWeeklySummary().getWeekId() : null,
+				report.getProject() != null ? report.getProject().getProjectId() : null,
+				report.getPerson() != null ? report.getPerson().getPersonId() : null,
+				report.getTaskStatus(), delta);
+	}
+
+	private static void add(TaskStatusRollupResponse response, StatusCount count) {
+		long value = count.getReportCount() == null ? 0 : count.getReportCount();
+		response.getStatusCounts().merge(count.getTaskStatus(), value, Long::sum);
+		response.setTotalReports(response.getTotalReports() + value);
+	}
+}
@@ -0,0 +1,455 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.qentelli.employeetrackingsystem.config.ReadReplicaRoutingDataSource;
+import com.qentelli.employeetrackingsystem.entity.Task;
+import com.qentelli.employeetrackingsystem.entity.TaskStatus;
+import com.qentelli.employeetrackingsystem.entity.ViewReports;
+import com.qentelli.employeetrackingsystem.exception.InvalidInputDataException;
+import com.qentelli.employeetrackingsystem.models.client.response.ReportSearchHit;
+import com.qentelli.employeetrackingsystem.repository.ViewreportRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Lucene index over the text of the reports: taskName, summary,
+ * keyAccomplishment and comments, with project, person, week and status kept
+ * as exact-match filter fields. Searches are answered from the index alone.
+ *
+ * ViewReportService hands every report write to index()/remove(); the change
+ * is applied after the surrounding transaction commits, so rolled-back writes
+ * never reach the index. Index changes are searchable right away and
+ * committed to disk every app.report-search.commit-interval; anything lost in
+ * a crash before that is restored by rebuild(), which also runs on startup
+ * when the index is empty.
+ *
+ * rebuild() reads the reports table from the primary into a scratch index
+ * and swaps it in at the end; searchers and the periodic commit only ever
+ * see the old or the new index, never a partial one. Changes applied while
+ * the rebuild runs are replayed on top of the new index, so a report written
+ * or deleted meanwhile keeps its latest state.
+ */
+@Service
+public class ReportSearchIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReportSearchIndex.class);
+
+	private static final String ID = "id";
+	private static final String TASK_NAME = "taskName";
+	private static final String SUMMARY = "summary";
+	private static final String KEY_ACCOMPLISHMENT = "keyAccomplishment";
+	private static final String COMMENTS = "comments";
+	private static final String PROJECT_ID = "projectId";
+	private static final String PERSON_ID = "personId";
+	private static final String WEEK_ID = "weekId";
+	private static final String TASK_STATUS = "taskStatus";
+
+	private static final String[] TEXT_FIELDS = { TASK_NAME, SUMMARY, KEY_ACCOMPLISHMENT, COMMENTS };
+	private static final Map<String, Float> BOOSTS = Map.of(TASK_NAME, 2f);
+
+	private final ViewreportRepository viewReportRepository;
+	private final EntityManager entityManager;
+	private final TransactionTemplate readOnlyTransaction;
+	private final Path indexDir;
+	private final int maxPageSize;
+	private final int maxResultWindow;
+	private final Analyzer analyzer = new StandardAnalyzer();
+
+	// Guards the writer against a swap in progress: changes, refreshes and commits all take it
+	private final ReentrantLock indexLock = new ReentrantLock();
+
+	private FSDirectory directory;
+	private IndexWriter writer;
+	private SearcherManager searcherManager;
+	// Latest change per report id made while a rebuild runs (null document = removed); null when idle
+	private Map<String, Document> changesDuringRebuild;
+
+	public ReportSearchIndex(ViewreportRepository viewReportRepository, EntityManager entityManager,
+			PlatformTransactionManager transactionManager,
+			@Value("${app.report-search.index-dir:./data/report-search}") Path indexDir,
+			@Value("${app.report-search.max-page-size:100}") int maxPageSize,
+			@Value("${app.report-search.max-result-window:10000}") int maxResultWindow) {
+		this.viewReportRepository = viewReportRepository;
+		this.entityManager = entityManager;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.indexDir = indexDir;
+		this.maxPageSize = maxPageSize;
+		this.maxResultWindow = maxResultWindow;
+	}
+
+	@PostConstruct
+	void open() throws IOException {
+		directory = FSDirectory.open(indexDir);
+		writer = new IndexWriter(directory,
+				new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+		searcherManager = new SearcherManager(writer, null);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	void rebuildIfEmpty() {
+		if (writer.getDocStats().numDocs == 0) {
+			Thread thread = new Thread(() -> {
+				try {
+					rebuild();
+				} catch (RuntimeException ex) {
+					logger.warn("Initial report search index build failed", ex);
+				}
+			}, "report-search-rebuild");
+			thread.setDaemon(true);
+			thread.start();
+		}
+	}
+
+	/** Indexes (or re-indexes) the report once the current transaction commits; soft-deleted reports are removed. */
+	public void index(ViewReports report) {
+		if (Boolean.TRUE.equals(report.getSoftDelete())) {
+			remove(report.getViewReportId());
+			return;
+		}
+		// Read the collections now, while the persistence context is still open
+		Task task = report.getTask();
+		Document document = toDocument(report, task == null ? null : task.getSummary(),
+				task == null ? null : task.getKeyAccomplishment(), report.getComments());
+		afterCommit(String.valueOf(report.getViewReportId()), document);
+	}
+
+	/** Drops the report from the index once the current transaction commits. */
+	public void remove(Integer viewReportId) {
+		afterCommit(String.valueOf(viewReportId), null);
+	}
+
+	/**
+	 * Re-creates the index from the reports table; returns the number of reports indexed.
+	 * The live index keeps serving searches until the new one is complete.
+	 */
+	public int rebuild() {
+		long started = System.currentTimeMillis();
+		indexLock.lock();
+		try {
+			if (changesDuringRebuild != null) {
+				throw new InvalidInputDataException(HttpStatus.CONFLICT, "A search index rebuild is already running");
+			}
+			// Set before the table is read, so no write can fall between the snapshot and the replay
+			changesDuringRebuild = new HashMap<>();
+		} finally {
+			indexLock.unlock();
+		}
+
+		Path buildDir = null;
+		try {
+			buildDir = Files.createTempDirectory(indexDir.toAbsolutePath().getParent(),
+					indexDir.getFileName() + "-rebuild-");
+			int count;
+			try (FSDirectory buildDirectory = FSDirectory.open(buildDir)) {
+				try (IndexWriter builder = new IndexWriter(buildDirectory,
+						new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE))) {
+					// The primary: a lagging replica would index reports as they were before recent writes
+					count = ReadReplicaRoutingDataSource.onPrimary(() -> readOnlyTransaction.execute(status -> {
+						try {
+							return build(builder);
+						} catch (IOException ex) {
+							throw new UncheckedIOException(ex);
+						}
+					}));
+					builder.commit();
+				}
+				swapIn(buildDirectory);
+			}
+			logger.info("Rebuilt report search index: {} reports in {} ms", count,
+					System.currentTimeMillis() - started);
+			return count;
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		} finally {
+			indexLock.lock();
+			try {
+				changesDuringRebuild = null;
+			} finally {
+				indexLock.unlock();
+			}
+			deleteQuietly(buildDir);
+		}
+	}
+
+	private int build(IndexWriter builder) throws IOException {
+		try (Stream<ViewReports> rows = viewReportRepository.streamForExport(null, null, null, null, null)) {
+			int indexed = 0;
+			List<ViewReports> batch = new ArrayList<>(ReportTexts.CHUNK);
+			for (Iterator<ViewReports> it = rows.iterator(); it.hasNext();) {
+				batch.add(it.next());
+				if (batch.size() == ReportTexts.CHUNK || !it.hasNext()) {
+					indexBatch(builder, batch);
+					indexed += batch.size();
+					batch.clear();
+				}
+			}
+			return indexed;
+		}
+	}
+
+	/**
+	 * Replaces the live documents with the rebuilt ones, replays the changes
+	 * made meanwhile and commits, all under the index lock so no refresh or
+	 * commit can observe the index in between.
+	 */
+	private void swapIn(FSDirectory buildDirectory) throws IOException {
+		indexLock.lock();
+		try {
+			writer.deleteAll();
+			writer.addIndexes(buildDirectory);
+			for (Map.Entry<String, Document> change : changesDuringRebuild.entrySet()) {
+				write(change.getKey(), change.getValue());
+			}
+			writer.commit();
+			searcherManager.maybeRefresh();
+		} finally {
+			indexLock.unlock();
+		}
+	}
+
+	private static void deleteQuietly(Path dir) {
+		if (dir == null) {
+			return;
+		}
+		try (Stream<Path> paths = Files.walk(dir)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		} catch (IOException ex) {
+			logger.warn("Could not delete {}", dir, ex);
+		}
+	}
+
+	private void indexBatch(IndexWriter builder, List<ViewReports> batch) throws IOException {
+		ReportTexts texts = ReportTexts.load(viewReportRepository,
+				batch.stream().map(ViewReports::getViewReportId).toList());
+		for (ViewReports report : batch) {
+			Integer id = report.getViewReportId();
+			builder.addDocument(toDocument(report, texts.summary(id),
+					texts.keyAccomplishment(id), texts.comments(id)));
+			entityManager.detach(report);
+		}
+	}
+
+	public Page<ReportSearchHit> search(String text, Integer projectId, Integer personId, Integer weekId,
+			String taskStatus, int page, int size) {
+		if (text == null || text.isBlank()) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "q must not be blank");
+		}
+		if (page < 0 || size < 1 || size > maxPageSize) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST,
+					"page must be >= 0 and size between 1 and " + maxPageSize);
+		}
+		// Lucene collects every hit up to the end of the requested page
+		if ((page + 1L) * size > maxResultWindow) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST,
+					"Search results are limited to the first " + maxResultWindow + " hits; narrow the query");
+		}
+		BooleanQuery.Builder builder = new BooleanQuery.Builder().add(parse(text), Occur.MUST);
+		filter(builder, PROJECT_ID, projectId);
+		filter(builder, PERSON_ID, personId);
+		filter(builder, WEEK_ID, weekId);
+		if (taskStatus != null) {
+			filter(builder, TASK_STATUS, parseStatus(taskStatus).name());
+		}
+		Query query = builder.build();
+
+		try {
+			IndexSearcher searcher = searcherManager.acquire();
+			try {
+				TopDocs top = searcher.search(query, (page + 1) * size);
+				List<ReportSearchHit> hits = new ArrayList<>(size);
+				ScoreDoc[] scoreDocs = top.scoreDocs;
+				for (int i = page * size; i < scoreDocs.length; i++) {
+					hits.add(toHit(searcher.storedFields().document(scoreDocs[i].doc), scoreDocs[i].score));
+				}
+				// totalHits is only a lower bound past Lucene's counting threshold; count exactly
+				return new PageImpl<>(hits, PageRequest.of(page, size), searcher.count(query));
+			} finally {
+				searcherManager.release(searcher);
+			}
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${app.report-search.commit-interval:10s}")
+	void commit() throws IOException {
+		indexLock.lock();
+		try {
+			if (writer.hasUncommittedChanges()) {
+				writer.commit();
+			}
+		} finally {
+			indexLock.unlock();
+		}
+	}
+
+	@PreDestroy
+	void close() throws IOException {
+		searcherManager.close();
+		writer.close();
+		directory.close();
+	}
+
+	private Query parse(String text) {
+		MultiFieldQueryParser parser = new MultiFieldQueryParser(TEXT_FIELDS, analyzer, BOOSTS);
+		parser.setDefaultOperator(QueryParser.Operator.AND);
+		try {
+			return parser.parse(text);
+		} catch (ParseException ex) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "Invalid search query: " + ex.getMessage());
+		}
+	}
+
+	private static void filter(BooleanQuery.Builder query, String field, Object value) {
+		if (value != null) {
+			query.add(new TermQuery(new Term(field, value.toString())), Occur.FILTER);
+		}
+	}
+
+	private static TaskStatus parseStatus(String value) {
+		try {
+			return TaskStatus.valueOf(value.trim().toUpperCase());
+		} catch (IllegalArgumentException ex) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "Invalid taskStatus: '" + value
+					+ "'. Allowed values are: " + Arrays.toString(TaskStatus.values()));
+		}
+	}
+
+	private static Document toDocument(ViewReports report, List<String> summary, List<String> keyAccomplishment,
+			List<String> comments) {
+		Document document = new Document();
+		document.add(new StringField(ID, String.valueOf(report.getViewReportId()), Field.Store.YES));
+		if (report.getTaskName() != null) {
+			document.add(new TextField(TASK_NAME, report.getTaskName(), Field.Store.YES));
+		}
+		addText(document, SUMMARY, summary);
+		addText(document, KEY_ACCOMPLISHMENT, keyAccomplishment);
+		addText(document, COMMENTS, comments);
+		if (report.getProject() != null) {
+			document.add(new StringField(PROJECT_ID, String.valueOf(report.getProject().getProjectId()), Field.Store.YES));
+		}
+		if (report.getPerson() != null) {
+			document.add(new StringField(PERSON_ID, String.valueOf(report.getPerson().getPersonId()), Field.Store.YES));
+		}
+		if (report.getWeeklySummary() != null) {
+			document.add(new StringField(WEEK_ID, String.valueOf(report.getWeeklySummary().getWeekId()),
+					Field.Store.YES));
+		}
+		if (report.getTaskStatus() != null) {
+			document.add(new StringField(TASK_STATUS, report.getTaskStatus().name(), Field.Store.YES));
+		}
+		return document;
+	}
+
+	private static void addText(Document document, String field, List<String> values) {
+		if (values != null) {
+			for (String value : values) {
+				if (value != null) {
+					document.add(new TextField(field, value, Field.Store.NO));
+				}
+			}
+		}
+	}
+
+	private static ReportSearchHit toHit(Document document, float score) {
+		String status = document.get(TASK_STATUS);
+		return new ReportSearchHit(integer(document.get(ID)), score, document.get(TASK_NAME),
+				status != null ? TaskStatus.valueOf(status) : null, integer(document.get(PROJECT_ID)),
+				integer(document.get(PERSON_ID)), integer(document.get(WEEK_ID)));
+	}
+
+	private static Integer integer(String value) {
+		return value != null ? Integer.valueOf(value) : null;
+	}
+
+	private void afterCommit(String id, Document document) {
+		Runnable apply = () -> {
+			indexLock.lock();
+			try {
+				write(id, document);
+				if (changesDuringRebuild != null) {
+					changesDuringRebuild.put(id, document);
+				}
+				searcherManager.maybeRefresh();
+			} catch (IOException ex) {
+				// The database write already committed; a rebuild brings the index back in line
+				logger.error("Report search index update failed", ex);
+			} finally {
+				indexLock.unlock();
+			}
+		};
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					apply.run();
+				}
+			});
+		} else {
+			apply.run();
+		}
+	}
+
+	// A null document removes the report
+	private void write(String id, Document document) throws IOException {
+		if (document == null) {
+			writer.deleteDocuments(new Term(ID, id));
+		} else {
+			writer.updateDocument(new Term(ID, id), document);
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.qentelli.employeetrackingsystem.repository.ViewreportRepository;
+import com.qentelli.employeetrackingsystem.repository.ViewreportRepository.ReportText;
+
+/**
+ * summary, keyAccomplishment and comments of a batch of reports, read with
+ * one IN query per field instead of three lazy loads per report. Used by the
+ * code paths that walk the whole reports table and detach as they go, where
+ * batch fetching cannot help.
+ */
+final class ReportTexts {
+
+	/** Upper bound on the ids per IN query; callers pass batches of at most this size. */
+	static final int CHUNK = 500;
+
+	private final Map<Integer, List<String>> summaries;
+	private final Map<Integer, List<String>> keyAccomplishments;
+	private final Map<Integer, List<String>> comments;
+
+	private ReportTexts(Map<Integer, List<String>> summaries, Map<Integer, List<String>> keyAccomplishments,
+			Map<Integer, List<String>> comments) {
+		this.summaries = summaries;
+		this.keyAccomplishments = keyAccomplishments;
+		this.comments = comments;
+	}
+
+	static ReportTexts load(ViewreportRepository repository, Collection<Integer> viewReportIds) {
+		if (viewReportIds.isEmpty()) {
+			return new ReportTexts(Map.of(), Map.of(), Map.of());
+		}
+		return new ReportTexts(group(repository.findSummaries(viewReportIds)),
+				group(repository.findKeyAccomplishments(viewReportIds)), group(repository.findComments(viewReportIds)));
+	}
+
+	List<String> summary(Integer viewReportId) {
+		return summaries.getOrDefault(viewReportId, List.of());
+	}
+
+	List<String> keyAccomplishment(Integer viewReportId) {
+		return keyAccomplishments.getOrDefault(viewReportId, List.of());
+	}
+
+	List<String> comments(Integer viewReportId) {
+		return comments.getOrDefault(viewReportId, List.of());
+	}
+
+	private static Map<Integer, List<String>> group(List<ReportText> texts) {
+		Map<Integer, List<String>> grouped = new HashMap<>();
+		for (ReportText text : texts) {
+			grouped.computeIfAbsent(text.getViewReportId(), id -> new ArrayList<>()).add(text.getText());
+		}
+		return grouped;
+	}
+}
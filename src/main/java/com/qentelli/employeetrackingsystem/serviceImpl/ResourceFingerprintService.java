@@ -0,0 +1,51 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Cheap change fingerprints for the ETag interceptor: the version of each
+ * requested table from table_version, which database triggers bump on every
+ * committed insert, update or delete (see TableVersionTriggers). Native bulk
+ * writes and the counter/rollup maintenance move it just like JPA writes, and
+ * every requested table costs one primary-key lookup in a single round trip,
+ * however large the table.
+ */
+@Service
+@RequiredArgsConstructor
+public class ResourceFingerprintService {
+
+	public enum Resource {
+		ACCOUNTS("account"),
+		PROJECTS("project"),
+		PERSONS("person"),
+		PERSON_PROJECTS("person_project"),
+		WEEKLY_SUMMARIES("weekly_summary"),
+		WEEKLY_SUMMARY_PROJECTS("weekly_summary_project"),
+		REPORTS("view_reports"),
+		ACCOUNT_COUNTERS("account_counter"),
+		REPORT_ROLLUPS("report_status_rollup");
+
+		private final String sql;
+
+		Resource(String table) {
+			this.sql = "select coalesce(max(version), 0) from table_version where table_name = '" + table + "'";
+		}
+	}
+
+	private final EntityManager entityManager;
+
+	@Transactional(readOnly = true)
+	public String fingerprint(Set<Resource> resources) {
+		// Enum order keeps the column order, and so the fingerprint, stable
+		String sql = resources.stream().sorted().map(resource -> "(" + resource.sql + ")")
+				.collect(Collectors.joining(", ", "select concat_ws('|', ", ")"));
+		return (String) entityManager.createNativeQuery(sql).getSingleResult();
+	}
+}
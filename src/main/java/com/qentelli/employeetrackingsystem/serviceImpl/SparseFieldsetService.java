@@ -0,0 +1,230 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.qentelli.employeetrackingsystem.exception.InvalidInputDataException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serves the fields= variants of the listing endpoints. Only the requested
+ * columns are selected (and only the joins they need); collection fields are
+ * loaded with one extra query each, and only when asked for. Rows come back
+ * as maps holding the id plus the requested fields, in request order.
+ *
+ * Field names and their JPQL expressions come from the fixed views below,
+ * never from the request, so the generated query text is always one of a
+ * known set.
+ */
+@Service
+@RequiredArgsConstructor
+public class SparseFieldsetService {
+
+	/** A selectable column; join is the clause its alias needs, or null. */
+	public record Column(String expression, String join) {
+		static Column of(String expression) {
+			return new Column(expression, null);
+		}
+	}
+
+	/** A list-valued field: collection path joined as c, element expression over c. */
+	public record CollectionField(String path, String element) {
+	}
+
+	public record FieldView(String entity, String idField, Map<String, Column> columns,
+			Map<String, CollectionField> collections, String where) {
+
+		Set<String> allowedFields() {
+			Set<String> allowed = new LinkedHashSet<>(columns.keySet());
+			allowed.addAll(collections.keySet());
+			return allowed;
+		}
+	}
+
+	private static final String PROJECT_ACCOUNT_JOIN = "left join e.account a";
+	private static final String REPORT_PROJECT_JOIN = "left join e.project pr";
+	private static final String REPORT_PERSON_JOIN = "left join e.person pe";
+
+	public static final FieldView PERSONS = new FieldView("Person", "personId",
+			columns("firstName", Column.of("e.firstName"), "lastName", Column.of("e.lastName"),
+					"email", Column.of("e.email"), "employeeCode", Column.of("e.employeeCode"),
+					"role", Column.of("e.role"), "personStatus", Column.of("e.personStatus"),
+					"techStack", Column.of("e.techStack")),
+			Map.of("projectIds", new CollectionField("e.projects", "c.projectId"),
+					"projectNames", new CollectionField("e.projects", "c.projectName")),
+			"e.personStatus = true");
+
+	public static final FieldView PROJECTS = new FieldView("Project", "projectId",
+			columns("projectName", Column.of("e.projectName"), "projectStatus", Column.of("e.projectStatus"),
+					"createdAt", Column.of("e.createdAt"), "createdBy", Column.of("e.createdBy"),
+					"updatedAt", Column.of("e.updatedAt"), "updatedBy", Column.of("e.updatedBy"),
+					"accountId", new Column("a.accountId", PROJECT_ACCOUNT_JOIN),
+					"accountName", new Column("a.accountName", PROJECT_ACCOUNT_JOIN)),
+			Map.of(), "e.projectStatus = true");
+
+	public static final FieldView ACCOUNTS = new FieldView("Account", "accountId",
+			columns("accountName", Column.of("e.accountName"), "accountStartDate", Column.of("e.accountStartDate"),
+					"accountEndDate", Column.of("e.accountEndDate"), "accountStatus", Column.of("e.accountStatus"),
+					"createdAt", Column.of("e.createdAt"), "createdBy", Column.of("e.createdBy"),
+					"updatedAt", Column.of("e.updatedAt"), "updatedBy", Column.of("e.updatedBy")),
+			Map.of(), "e.accountStatus = true");
+
+	public static final FieldView WEEKLY_SUMMARIES = new FieldView("WeeklySummary", "weekId",
+			columns("weekStartDate", Column.of("e.weekStartDate"), "weekEndDate", Column.of("e.weekEndDate"),
+					"weekRange", Column.of("e.weekRange")),
+			Map.of("upcomingTasks", new CollectionField("e.upcomingTasks", "c"),
+					"projectNames", new CollectionField("e.listProject", "c.projectName")),
+			null);
+
+	public static final FieldView REPORTS = new FieldView("ViewReports", "viewReportId",
+			columns("taskName", Column.of("e.taskName"), "taskStatus", Column.of("e.taskStatus"),
+					"taskStartDate", Column.of("e.taskStartDate"), "taskEndDate", Column.of("e.taskEndDate"),
+					"createdAt", Column.of("e.createdAt"), "createdBy", Column.of("e.createdBy"),
+					"projectName", new Column("pr.projectName", REPORT_PROJECT_JOIN),
+					"personName", new Column("concat(pe.firstName, ' ', pe.lastName)", REPORT_PERSON_JOIN)),
+			Map.of("summary", new CollectionField("e.task.summary", "c"),
+					"keyAccomplishment", new CollectionField("e.task.keyAccomplishment", "c"),
+					"comments", new CollectionField("e.comments", "c")),
+			null);
+
+	private final EntityManager entityManager;
+
+	@Transactional(readOnly = true)
+	public Page<Map<String, Object>> findPage(FieldView view, String fields, int page, int size, String sortBy) {
+		List<String> requested = parse(view, fields);
+		String where = view.where() == null ? "" : " where " + view.where();
+
+		TypedQuery<Tuple> query = entityManager.createQuery(selectClause(view, requested) + where
+				+ orderBy(view, sortBy), Tuple.class);
+		query.setFirstResult(page * size);
+		query.setMaxResults(size);
+		List<Map<String, Object>> rows = toRows(view, requested, query.getResultList());
+
+		long total = entityManager
+				.createQuery("select count(e) from " + view.entity() + " e" + where, Long.class)
+				.getSingleResult();
+		return new PageImpl<>(rows, PageRequest.of(page, size), total);
+	}
+
+	@Transactional(readOnly = true)
+	public List<Map<String, Object>> findAll(FieldView view, String fields, String sortBy) {
+		List<String> requested = parse(view, fields);
+		String where = view.where() == null ? "" : " where " + view.where();
+		return toRows(view, requested, entityManager
+				.createQuery(selectClause(view, requested) + where + orderBy(view, sortBy), Tuple.class)
+				.getResultList());
+	}
+
+	private static List<String> parse(FieldView view, String fields) {
+		Set<String> requested = new LinkedHashSet<>();
+		for (String field : fields.split(",")) {
+			String name = field.trim();
+			if (!name.isEmpty() && !name.equals(view.idField())) {
+				requested.add(name);
+			}
+		}
+		Set<String> unknown = new LinkedHashSet<>(requested);
+		unknown.removeAll(view.allowedFields());
+		if (!unknown.isEmpty()) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST,
+					"Unknown fields " + unknown + ". Allowed fields are: " + view.allowedFields());
+		}
+		return new ArrayList<>(requested);
+	}
+
+	private static String selectClause(FieldView view, List<String> requested) {
+		StringBuilder select = new StringBuilder("select e.").append(view.idField()).append(" as ")
+				.append(view.idField());
+		Set<String> joins = new LinkedHashSet<>();
+		for (String field : requested) {
+			Column column = view.columns().get(field);
+			if (column != null) {
+				select.append(", ").append(column.expression()).append(" as ").append(field);
+				if (column.join() != null) {
+					joins.add(column.join());
+				}
+			}
+		}
+		select.append(" from ").append(view.entity()).append(" e");
+		joins.forEach(join -> select.append(' ').append(join));
+		return select.toString();
+	}
+
+	private static String orderBy(FieldView view, String sortBy) {
+		if (sortBy == null || sortBy.equals(view.idField())) {
+			return " order by e." + view.idField();
+		}
+		Column column = view.columns().get(sortBy);
+		if (column == null || column.join() != null) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "Cannot sort by '" + sortBy + "'");
+		}
+		return " order by " + column.expression() + ", e." + view.idField();
+	}
+
+	private List<Map<String, Object>> toRows(FieldView view, List<String> requested, List<Tuple> tuples) {
+		List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+		List<Object> ids = new ArrayList<>(tuples.size());
+		for (Tuple tuple : tuples) {
+			Map<String, Object> row = new LinkedHashMap<>();
+			row.put(view.idField(), tuple.get(view.idField()));
+			for (String field : requested) {
+				// Collection fields are filled below; reserve their slot to keep the order
+				row.put(field, view.columns().containsKey(field) ? tuple.get(field) : List.of());
+			}
+			rows.add(row);
+			ids.add(tuple.get(view.idField()));
+		}
+		if (ids.isEmpty()) {
+			return rows;
+		}
+		for (String field : requested) {
+			CollectionField collection = view.collections().get(field);
+			if (collection != null) {
+				Map<Object, List<Object>> values = loadCollection(view, collection, ids);
+				for (Map<String, Object> row : rows) {
+					row.put(field, values.getOrDefault(row.get(view.idField()), List.of()));
+				}
+			}
+		}
+		return rows;
+	}
+
+	// Chunked like ReportTexts: an unpaged /all would otherwise bind every id of the table into one IN list
+	private Map<Object, List<Object>> loadCollection(FieldView view, CollectionField collection, List<Object> ids) {
+		String jpql = "select e." + view.idField() + ", " + collection.element() + " from " + view.entity()
+				+ " e join " + collection.path() + " c where e." + view.idField() + " in :ids";
+		Map<Object, List<Object>> values = new HashMap<>();
+		for (int from = 0; from < ids.size(); from += ReportTexts.CHUNK) {
+			List<Object> chunk = ids.subList(from, Math.min(from + ReportTexts.CHUNK, ids.size()));
+			for (Object[] pair : entityManager.createQuery(jpql, Object[].class).setParameter("ids", chunk)
+					.getResultList()) {
+				values.computeIfAbsent(pair[0], id -> new ArrayList<>()).add(pair[1]);
+			}
+		}
+		return values;
+	}
+
+	private static Map<String, Column> columns(Object... namesAndColumns) {
+		Map<String, Column> columns = new LinkedHashMap<>();
+		for (int i = 0; i < namesAndColumns.length; i += 2) {
+			columns.put((String) namesAndColumns[i], (Column) namesAndColumns[i + 1]);
+		}
+		return columns;
+	}
+}
@@ -0,0 +1,89 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.qentelli.employeetrackingsystem.exception.InvalidInputDataException;
+import com.qentelli.employeetrackingsystem.models.client.response.TimesheetEntryResponse;
+import com.qentelli.employeetrackingsystem.repository.ViewreportRepository;
+import com.qentelli.employeetrackingsystem.repository.ViewreportRepository.TimesheetRow;
+
+/**
+ * Per-person and per-project timesheets: the reports of one week (weekId),
+ * of the weeks starting between from and to, or of the last n weeks. Rows
+ * are read as projections straight from the indexed queries, so the cost
+ * follows the size of the timesheet, not of the reports table.
+ */
+@Service
+public class TimesheetService {
+
+	private final ViewreportRepository viewReportRepository;
+	private final int maxWeeks;
+
+	public TimesheetService(ViewreportRepository viewReportRepository,
+			@Value("${app.timesheet.max-weeks:53}") int maxWeeks) {
+		this.viewReportRepository = viewReportRepository;
+		this.maxWeeks = maxWeeks;
+	}
+
+	@Transactional(readOnly = true)
+	public List<TimesheetEntryResponse> forPerson(Integer personId, Integer weekId, LocalDate from, LocalDate to,
+			Integer weeks) {
+		if (weekId != null) {
+			return toResponses(viewReportRepository.findTimesheetByPersonAndWeek(personId, weekId));
+		}
+		LocalDate[] range = range(from, to, weeks);
+		return toResponses(viewReportRepository.findTimesheetByPersonBetween(personId, range[0], range[1]));
+	}
+
+	@Transactional(readOnly = true)
+	public List<TimesheetEntryResponse> forProject(Integer projectId, Integer weekId, LocalDate from, LocalDate to,
+			Integer weeks) {
+		if (weekId != null) {
+			return toResponses(viewReportRepository.findTimesheetByProjectAndWeek(projectId, weekId));
+		}
+		LocalDate[] range = range(from, to, weeks);
+		return toResponses(viewReportRepository.findTimesheetByProjectBetween(projectId, range[0], range[1]));
+	}
+
+	/** Week start dates to include, both inclusive. */
+	private LocalDate[] range(LocalDate from, LocalDate to, Integer weeks) {
+		if (from != null || to != null) {
+			if (from == null || to == null || weeks != null) {
+				throw new InvalidInputDataException(HttpStatus.BAD_REQUEST,
+						"Give either weekId, from and to, or weeks");
+			}
+			if (from.isAfter(to)) {
+				throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "from must not be after to");
+			}
+			if (ChronoUnit.WEEKS.between(from, to) >= maxWeeks) {
+				throw new InvalidInputDataException(HttpStatus.BAD_REQUEST,
+						"A timesheet can span at most " + maxWeeks + " weeks");
+			}
+			return new LocalDate[] { from, to };
+		}
+		int count = weeks == null ? 8 : weeks;
+		if (count < 1 || count > maxWeeks) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST,
+					"weeks must be between 1 and " + maxWeeks);
+		}
+		// Weeks starting within the last count * 7 days, this week included
+		LocalDate today = LocalDate.now();
+		return new LocalDate[] { today.minusWeeks(count).plusDays(1), today };
+	}
+
+	private static List<TimesheetEntryResponse> toResponses(List<TimesheetRow> rows) {
+		return rows.stream()
+				.map(row -> new TimesheetEntryResponse(row.getViewReportId(), row.getWeekId(),
+						row.getWeekStartDate(), row.getWeekEndDate(), row.getProjectId(), row.getProjectName(),
+						row.getPersonId(), row.getFirstName() + " " + row.getLastName(), row.getTaskName(),
+						row.getTaskStatus(), row.getTaskStartDate(), row.getTaskEndDate()))
+				.toList();
+	}
+}
@@ -1,17 +1,20 @@
 package com.qentelli.employeetrackingsystem.serviceImpl;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.qentelli.employeetrackingsystem.entity.Person;
-import com.qentelli.employeetrackingsystem.entity.Project;
 import com.qentelli.employeetrackingsystem.entity.Task;
 import com.qentelli.employeetrackingsystem.entity.ViewReports;
-import com.qentelli.employeetrackingsystem.entity.WeeklySummary;
+import com.qentelli.employeetrackingsystem.exception.InvalidInputDataException;
 import com.qentelli.employeetrackingsystem.exception.ResourceNotFoundException;
+import com.qentelli.employeetrackingsystem.models.client.response.BatchResponse;
 import com.qentelli.employeetrackingsystem.models.client.request.ViewReportRequest;
 import com.qentelli.employeetrackingsystem.models.client.response.ViewReportResponse;
 import com.qentelli.employeetrackingsystem.repository.PersonRepository;
@@ -31,112 +34,139 @@ public class ViewReportService {
 	private static final String PERSON_NOT_FOUND = "Person not found";
 	// private static final String USER_NOT_FOUND = "User not found";
 
-	private ViewreportRepository viewReportRepository;
+	private final ViewreportRepository viewReportRepository;
 
-	private WeeklySummaryRepository weeklySummaryRepository;
+	private final WeeklySummaryRepository weeklySummaryRepository;
 
-	private ProjectRepository projectRepository;
+	private final ProjectRepository projectRepository;
 
 //    @Autowired
 //    private UserRepository userRepository;
 
 	
-	private PersonRepository personRepository;
-
-	public ViewReportResponse saveReport(ViewReportRequest request) {
-		WeeklySummary summary = weeklySummaryRepository.findById(request.getWeekId())
-				.orElseThrow(() -> new RuntimeException(WEEKLY_SUMMARY_NOT_FOUND + " with id: " + request.getWeekId()));
-
-		Project project = projectRepository.findById(request.getProjectId())
-				.orElseThrow(() -> new RuntimeException(PROJECT_NOT_FOUND + " with id: " + request.getProjectId()));
-
-//        User user = userRepository.findByEmployeeId(request.getEmployeeId())
-//        	    .orElseThrow(() -> new RuntimeException("User not found"));
-
-		Person person = personRepository.findByPersonId(request.getPersonId())
-				.orElseThrow(() -> new RuntimeException(PERSON_NOT_FOUND + " with id: " + request.getPersonId()));
-
+	private final PersonRepository personRepository;
+
+	private final ReportRollupService reportRollupService;
+
+	private final PlatformTransactionManager transactionManager;
+	private final BatchGetSupport batchGetSupport;
+	private final ReportSearchIndex reportSearchIndex;
+	private final ReportOverlapService reportOverlapService;
+
+	/**
+	 * Attaches the week, project and person as references without loading
+	 * them; a missing row surfaces as a foreign key violation on insert and
+	 * is turned into a 404. Returns only the new id; none of the callers
+	 * need the project and person names, so they are not looked up.
+	 */
+	@Transactional
+	public Integer saveReport(ViewReportRequest request) {
+		requirePersonId(request);
 		ViewReports report = new ViewReports();
-		report.setTaskName(request.getTaskName());
-		report.setTaskStatus(request.getTaskStatus());
-		report.setTaskStartDate(request.getTaskStartDate());
-		report.setTaskEndDate(request.getTaskEndDate());
-		report.setComments(request.getComments());
-		report.setProject(project);
-		// report.setUser(user);
-		report.setPerson(person);
-		report.setWeeklySummary(summary);
-		report.setTask(new Task(request.getSummary(), request.getKeyAccomplishment()));
+		applyRequest(report, request);
 
-		ViewReports saved = viewReportRepository.save(report);
+		ViewReports saved;
+		try {
+			saved = viewReportRepository.save(report);
+		} catch (DataIntegrityViolationException ex) {
+			throw missingReference(request, ex);
+		}
+		reportRollupService.recordAdded(saved);
+		reportSearchIndex.index(saved);
+		reportOverlapService.invalidate();
 
-		ViewReportResponse response = new ViewReportResponse();
-		response.setViewReportId(saved.getViewReportId());
-		response.setTaskName(saved.getTaskName());
-		response.setTaskStatus(saved.getTaskStatus());
-		response.setSummary(saved.getTask().getSummary());
-		response.setKeyAccomplishment(saved.getTask().getKeyAccomplishment());
-		response.setComments(saved.getComments());
-		response.setProjectName(saved.getProject().getProjectName());
-		// response.setEmployeeName(saved.getUser().getFirstName() + " " +
-		// saved.getUser().getLastName());
-		response.setPersonName(saved.getPerson().getFirstName() + " " + saved.getPerson().getLastName());
-		response.setTaskStartDate(saved.getTaskStartDate());
-		response.setTaskEndDate(saved.getTaskEndDate());
-		response.setCreatedAt(saved.getCreatedAt());
-		response.setCreatedBy(saved.getCreatedBy());
-		return response;
+		return saved.getViewReportId();
 	}
 
-	public ViewReportResponse updateReport(ViewReportRequest request) {
+	@Transactional
+	public Integer updateReport(ViewReportRequest request) {
+		requirePersonId(request);
 		ViewReports report = viewReportRepository.findById(request.getViewReportId())
 				.orElseThrow(() -> new RuntimeException(REPORT_NOT_FOUND));
+		reportRollupService.recordRemoved(report);
+
+		applyRequest(report, request);
 
-		WeeklySummary summary = weeklySummaryRepository.findById(request.getWeekId())
-				.orElseThrow(() -> new RuntimeException(WEEKLY_SUMMARY_NOT_FOUND + " with id: " + request.getWeekId()));
-		Project project = projectRepository.findById(request.getProjectId())
-				.orElseThrow(() -> new RuntimeException(PROJECT_NOT_FOUND + " with id: " + request.getProjectId()));
-//        User user = userRepository.findByEmployeeId(request.getEmployeeId())
-//        	    .orElseThrow(() -> new RuntimeException("User not found"));
+		ViewReports updated;
+		try {
+			updated = viewReportRepository.saveAndFlush(report);
+		} catch (DataIntegrityViolationException ex) {
+			throw missingReference(request, ex);
+		}
+		reportRollupService.recordAdded(updated);
+		reportSearchIndex.index(updated);
+		reportOverlapService.invalidate();
 
-		Person person = personRepository.findByPersonId(request.getPersonId())
-				.orElseThrow(() -> new RuntimeException(PERSON_NOT_FOUND + " with id: " + request.getPersonId()));
+		return updated.getViewReportId();
+	}
 
+	private void applyRequest(ViewReports report, ViewReportRequest request) {
 		report.setTaskName(request.getTaskName());
 		report.setTaskStatus(request.getTaskStatus());
 		report.setTaskStartDate(request.getTaskStartDate());
 		report.setTaskEndDate(request.getTaskEndDate());
 		report.setComments(request.getComments());
-		report.setProject(project);
+		report.setProject(projectRepository.getReferenceById(request.getProjectId()));
 		// report.setUser(user);
-		report.setPerson(person);
-		report.setWeeklySummary(summary);
+		report.setPerson(personRepository.getReferenceById(request.getPersonId()));
+		report.setWeeklySummary(weeklySummaryRepository.getReferenceById(request.getWeekId()));
 		report.setTask(new Task(request.getSummary(), request.getKeyAccomplishment()));
+	}
 
-		ViewReports updated = viewReportRepository.save(report);
+	private static void requirePersonId(ViewReportRequest request) {
+		if (request.getPersonId() == null) {
+			throw new InvalidInputDataException(HttpStatus.BAD_REQUEST, "personId is required");
+		}
+	}
 
-		ViewReportResponse response = new ViewReportResponse();
-		response.setViewReportId(updated.getViewReportId());
-		response.setTaskName(updated.getTaskName());
-		response.setTaskStatus(updated.getTaskStatus());
-		response.setSummary(updated.getTask().getSummary());
-		response.setKeyAccomplishment(updated.getTask().getKeyAccomplishment());
-		response.setComments(updated.getComments());
-		response.setProjectName(updated.getProject().getProjectName());
-		// response.setEmployeeName(updated.getUser().getFirstName() + " " +
-		// updated.getUser().getLastName());
-		response.setPersonName(updated.getPerson().getFirstName() + " " + updated.getPerson().getLastName());
-		response.setTaskStartDate(updated.getTaskStartDate());
-		response.setTaskEndDate(updated.getTaskEndDate());
-		response.setCreatedAt(updated.getCreatedAt());
-		response.setCreatedBy(updated.getCreatedBy());
-		return response;
+	/**
+	 * Failure path only: works out which reference was missing. The current
+	 * transaction is already aborted, so the checks run in a new one.
+	 */
+	private RuntimeException missingReference(ViewReportRequest request, DataIntegrityViolationException cause) {
+		TransactionTemplate lookup = new TransactionTemplate(transactionManager);
+		lookup.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		RuntimeException missing = lookup.execute(status -> {
+			if (!weeklySummaryRepository.existsById(request.getWeekId())) {
+				return new ResourceNotFoundException(WEEKLY_SUMMARY_NOT_FOUND + " with id: " + request.getWeekId());
+			}
+			if (!projectRepository.existsById(request.getProjectId())) {
+				return new ResourceNotFoundException(PROJECT_NOT_FOUND + " with id: " + request.getProjectId());
+			}
+			if (!personRepository.existsById(request.getPersonId())) {
+				return new ResourceNotFoundException(PERSON_NOT_FOUND + " with id: " + request.getPersonId());
+			}
+			return null;
+		});
+		return missing != null ? missing : cause;
 	}
 
+	@Transactional(readOnly = true)
 	public ViewReportResponse getReportById(Integer id) {
 		ViewReports report = viewReportRepository.findById(id)
 				.orElseThrow(() -> new RuntimeException(REPORT_NOT_FOUND + " with id: " + id));
-		// Map to response (reuse mapping logic)
+		return toResponse(report);
+	}
+
+	@Transactional(readOnly = true)
+	public BatchResponse<ViewReportResponse> getReportsByIds(List<Integer> ids) {
+		return batchGetSupport.load(ids, viewReportRepository::findAllById, ViewReports::getViewReportId,
+				this::toResponse);
+	}
+
+	@Transactional(readOnly = true)
+	public List<ViewReportResponse> getAllReports() {
+		return viewReportRepository.findAll().stream().map(this::toResponse).toList();
+	}
+
+	public ViewReportResponse toResponse(ViewReports report) {
+		ViewReportResponse response = baseResponse(report);
+		response.setProjectName(report.getProject().getProjectName());
+		response.setPersonName(report.getPerson().getFirstName() + " " + report.getPerson().getLastName());
+		return response;
+	}
+
+	private static ViewReportResponse baseResponse(ViewReports report) {
 		ViewReportResponse response = new ViewReportResponse();
 		response.setViewReportId(report.getViewReportId());
 		response.setTaskName(report.getTaskName());
@@ -144,10 +174,6 @@ public class ViewReportService {
 		response.setSummary(report.getTask().getSummary());
 		response.setKeyAccomplishment(report.getTask().getKeyAccomplishment());
 		response.setComments(report.getComments());
-		response.setProjectName(report.getProject().getProjectName());
-		// response.setEmployeeName(report.getUser().getFirstName() + " " +
-		// report.getUser().getLastName());
-		response.setPersonName(report.getPerson().getFirstName() + " " + report.getPerson().getLastName());
 		response.setTaskStartDate(report.getTaskStartDate());
 		response.setTaskEndDate(report.getTaskEndDate());
 		response.setCreatedAt(report.getCreatedAt());
@@ -155,42 +181,26 @@ public class ViewReportService {
 		return response;
 	}
 
-	public List<ViewReportResponse> getAllReports() {
-		List<ViewReports> reports = viewReportRepository.findAll();
-		List<ViewReportResponse> responses = new ArrayList<>();
-		for (ViewReports report : reports) {
-			ViewReportResponse response = new ViewReportResponse();
-			response.setViewReportId(report.getViewReportId());
-			response.setTaskName(report.getTaskName());
-			response.setTaskStatus(report.getTaskStatus());
-			response.setSummary(report.getTask().getSummary());
-			response.setKeyAccomplishment(report.getTask().getKeyAccomplishment());
-			response.setComments(report.getComments());
-			response.setProjectName(report.getProject().getProjectName());
-			// response.setEmployeeName(report.getUser().getFirstName() + " " +
-			// report.getUser().getLastName());
-			response.setPersonName(report.getPerson().getFirstName() + " " + report.getPerson().getLastName());
-			response.setTaskStartDate(report.getTaskStartDate());
-			response.setTaskEndDate(report.getTaskEndDate());
-			response.setCreatedAt(report.getCreatedAt());
-			response.setCreatedBy(report.getCreatedBy());
-			responses.add(response);
-		}
-		return responses;
-	}
-
 	// SOFT DELETE
+	@Transactional
 	public ViewReports softDeleteSummery(Integer viewReportId) {
 		ViewReports viewReports = viewReportRepository.findById(viewReportId)
 				.orElseThrow(() -> new ResourceNotFoundException("viewReportId not found"));
+		reportRollupService.recordRemoved(viewReports);
 		viewReports.setSoftDelete(true);
+		reportSearchIndex.remove(viewReportId);
+		reportOverlapService.invalidate();
 		return viewReportRepository.save(viewReports);
 	}
 
+	@Transactional
 	public void deleteReport(Integer id) {
 		ViewReports report = viewReportRepository.findById(id)
 				.orElseThrow(() -> new RuntimeException(REPORT_NOT_FOUND + " with id: " + id));
+		reportRollupService.recordRemoved(report);
 		viewReportRepository.delete(report);
+		reportSearchIndex.remove(id);
+		reportOverlapService.invalidate();
 	}
 
 }
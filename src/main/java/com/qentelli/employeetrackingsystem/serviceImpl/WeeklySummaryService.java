@@ -1,17 +1,25 @@
 package com.qentelli.employeetrackingsystem.serviceImpl;
 
 import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.qentelli.employeetrackingsystem.entity.Project;
 import com.qentelli.employeetrackingsystem.entity.WeeklySummary;
 import com.qentelli.employeetrackingsystem.exception.ResourceNotFoundException;
+import com.qentelli.employeetrackingsystem.models.client.response.BatchResponse;
 import com.qentelli.employeetrackingsystem.models.client.request.WeeklySummaryRequest;
 import com.qentelli.employeetrackingsystem.models.client.response.WeeklySummaryResponse;
 import com.qentelli.employeetrackingsystem.repository.ProjectRepository;
+import com.qentelli.employeetrackingsystem.repository.ProjectRepository.ProjectName;
 import com.qentelli.employeetrackingsystem.repository.WeeklySummaryRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -27,9 +35,15 @@ public class WeeklySummaryService {
 	private final WeeklySummaryRepository weeklySummaryRepository;
 
 	private final ProjectRepository projectRepository;
+	private final BatchGetSupport batchGetSupport;
 
+	/**
+	 * Only the project ids and names are read; the join rows are written with
+	 * one insert instead of loading each project entity.
+	 */
+	@Transactional
 	public WeeklySummaryResponse createSummary(WeeklySummaryRequest request) {
-		List<Project> projects = projectRepository.findAllById(request.getProjectIds());
+		List<ProjectName> projects = projectRepository.findNamesByIds(request.getProjectIds());
 		if (projects.isEmpty()) {
 			throw new ResourceNotFoundException(NO_PROJECTS_FOUND);
 		}
@@ -38,21 +52,23 @@ public class WeeklySummaryService {
 		summary.setWeekStartDate(request.getWeekStartDate());
 		summary.setWeekEndDate(request.getWeekEndDate());
 		summary.setUpcomingTasks(request.getUpcomingTasks());
-		summary.setListProject(projects);
 		summary.setCreatedAt(LocalDateTime.now());
 
 		WeeklySummary savedSummary = weeklySummaryRepository.save(summary);
+		weeklySummaryRepository.linkProjects(savedSummary.getWeekId(),
+				projects.stream().map(ProjectName::getProjectId).toList());
 
 		WeeklySummaryResponse response = new WeeklySummaryResponse();
 		response.setWeekId(savedSummary.getWeekId());
 		response.setWeekStartDate(savedSummary.getWeekStartDate());
 		response.setWeekEndDate(savedSummary.getWeekEndDate());
 		response.setUpcomingTasks(savedSummary.getUpcomingTasks());
-		response.setProjectNames(savedSummary.getListProject().stream().map(Project::getProjectName).toList());
+		response.setProjectNames(projects.stream().map(ProjectName::getProjectName).toList());
 
 		return response;
 	}
 
+	@Transactional(readOnly = true)
 	public WeeklySummaryResponse getSummaryById(Integer weekId) {
 		WeeklySummary summary = weeklySummaryRepository.findById(weekId)
 				.orElseThrow(() -> new ResourceNotFoundException(WEEKLY_SUMMARY_NOT_FOUND + weekId));
@@ -71,34 +87,48 @@ public class WeeklySummaryService {
 		return response;
 	}
 
+	@Transactional(readOnly = true)
+	public BatchResponse<WeeklySummaryResponse> getSummariesByIds(List<Integer> ids) {
+		return batchGetSupport.load(ids, weeklySummaryRepository::findAllById, WeeklySummary::getWeekId,
+				this::toResponse);
+	}
+
+	@Transactional(readOnly = true)
 	public List<WeeklySummaryResponse> getAllSummaries() {
 		List<WeeklySummary> summaries = weeklySummaryRepository.findAll();
-		return summaries.stream().map(summary -> {
-			WeeklySummaryResponse response = new WeeklySummaryResponse();
-			response.setWeekId(summary.getWeekId());
-			response.setWeekStartDate(summary.getWeekStartDate());
-			response.setWeekEndDate(summary.getWeekEndDate());
-			response.setUpcomingTasks(summary.getUpcomingTasks());
-			response.setProjectNames(summary.getListProject().stream().map(Project::getProjectName).toList());
-			response.setWeekRange(WEEK + ":" + summary.getWeekStartDate() + " To " + summary.getWeekEndDate());
-			return response;
-		}).toList();
+		return summaries.stream().map(this::toResponse).toList();
+	}
+
+	public WeeklySummaryResponse toResponse(WeeklySummary summary) {
+		WeeklySummaryResponse response = new WeeklySummaryResponse();
+		response.setWeekId(summary.getWeekId());
+		response.setWeekStartDate(summary.getWeekStartDate());
+		response.setWeekEndDate(summary.getWeekEndDate());
+		response.setUpcomingTasks(summary.getUpcomingTasks());
+		response.setProjectNames(summary.getListProject().stream().map(Project::getProjectName).toList());
+		response.setWeekRange(weekRange(summary.getWeekStartDate(), summary.getWeekEndDate()));
+		return response;
+	}
+
+	static String weekRange(LocalDate weekStartDate, LocalDate weekEndDate) {
+		return WEEK + ":" + weekStartDate + " To " + weekEndDate;
 	}
 
+	@Transactional
 	public WeeklySummaryResponse updateSummary(WeeklySummaryRequest request) {
 		Integer weekId = request.getWeekId();
 		WeeklySummary summary = weeklySummaryRepository.findById(weekId)
 				.orElseThrow(() -> new ResourceNotFoundException(WEEKLY_SUMMARY_NOT_FOUND + weekId));
 
-		List<Project> projects = projectRepository.findAllById(request.getProjectIds());
-		if (projects.isEmpty()) {
+		List<Integer> projectIds = projectRepository.findExistingIds(request.getProjectIds());
+		if (projectIds.isEmpty()) {
 			throw new ResourceNotFoundException(NO_PROJECTS_FOUND);
 		}
 
 		summary.setWeekStartDate(request.getWeekStartDate());
 		summary.setWeekEndDate(request.getWeekEndDate());
 		summary.setUpcomingTasks(request.getUpcomingTasks());
-		summary.setListProject(projects);
+		syncProjectLinks(weekId, projectIds);
 
 		WeeklySummary updatedSummary = weeklySummaryRepository.save(summary);
 
@@ -111,6 +141,23 @@ public class WeeklySummaryService {
 		return response;
 	}
 
+	/**
+	 * Writes only the difference between the stored and requested project
+	 * links instead of letting Hibernate rewrite the whole join table.
+	 */
+	private void syncProjectLinks(Integer weekId, Collection<Integer> requestedIds) {
+		Set<Integer> current = new HashSet<>(weeklySummaryRepository.findProjectIdsByWeekId(weekId));
+		Set<Integer> requested = new LinkedHashSet<>(requestedIds);
+		List<Integer> toRemove = current.stream().filter(projectId -> !requested.contains(projectId)).toList();
+		List<Integer> toAdd = requested.stream().filter(projectId -> !current.contains(projectId)).toList();
+		if (!toRemove.isEmpty()) {
+			weeklySummaryRepository.unlinkProjects(weekId, toRemove);
+		}
+		if (!toAdd.isEmpty()) {
+			weeklySummaryRepository.linkProjects(weekId, toAdd);
+		}
+	}
+
 	// SOFT DELETE
 	public WeeklySummary softDeleteSummery(Integer weekId) {
 		WeeklySummary weeklySummary = weeklySummaryRepository.findById(weekId)
@@ -126,6 +173,7 @@ public class WeeklySummaryService {
 		weeklySummaryRepository.delete(summary);
 	}
 
+	@Transactional(readOnly = true)
 	public List<WeeklySummaryResponse> getFormattedWeekRanges() {
 		List<WeeklySummary> summaries = weeklySummaryRepository.findAll();
 		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MMMM-yyyy");
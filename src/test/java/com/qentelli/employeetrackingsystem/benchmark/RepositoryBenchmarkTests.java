@@ -0,0 +1,233 @@
+package com.qentelli.employeetrackingsystem.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.qentelli.employeetrackingsystem.entity.Account;
+import com.qentelli.employeetrackingsystem.entity.Person;
+import com.qentelli.employeetrackingsystem.entity.Project;
+import com.qentelli.employeetrackingsystem.entity.Roles;
+import com.qentelli.employeetrackingsystem.entity.Task;
+import com.qentelli.employeetrackingsystem.entity.TaskStatus;
+import com.qentelli.employeetrackingsystem.entity.ViewReports;
+import com.qentelli.employeetrackingsystem.entity.WeeklySummary;
+import com.qentelli.employeetrackingsystem.repository.AccountRepository;
+import com.qentelli.employeetrackingsystem.repository.PersonRepository;
+import com.qentelli.employeetrackingsystem.repository.ProjectRepository;
+import com.qentelli.employeetrackingsystem.repository.ViewreportRepository;
+import com.qentelli.employeetrackingsystem.repository.WeeklySummaryRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Times the repository methods behind the busiest endpoints against a local
+ * PostgreSQL. Skipped unless benchmark.db.url is set. Run once with and once
+ * without the tuned profile and compare the logged timings:
+ *
+ * <pre>
+ * mvn test -Dtest=RepositoryBenchmarkTests -Dbenchmark.db.url=jdbc:postgresql://localhost:5432/ets_bench
+ * mvn test -Dtest=RepositoryBenchmarkTests -Dbenchmark.db.url=... -Dspring.profiles.active=tuned
+ * </pre>
+ *
+ * The flush timings and heap per loaded entity are the numbers to compare
+ * with and without the bytecode-enhancement Maven profile.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=${benchmark.db.url}",
+		"spring.datasource.username=${benchmark.db.username:postgres}",
+		"spring.datasource.password=${benchmark.db.password:postgres}",
+		"spring.jpa.show-sql=false" })
+@EnabledIfSystemProperty(named = "benchmark.db.url", matches = ".+")
+class RepositoryBenchmarkTests {
+
+	private static final Logger logger = LoggerFactory.getLogger(RepositoryBenchmarkTests.class);
+
+	private static final int WARMUP_ROUNDS = 50;
+	private static final int ROUNDS = 500;
+	private static final int REPORT_ROWS = 2000;
+	private static final int PERSON_ROWS = 500;
+	private static final int FLUSH_ROUNDS = 10;
+	private static final int TOUCH_EVERY = 10; // modify one entity in ten before flushing
+
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private ProjectRepository projectRepository;
+	@Autowired
+	private PersonRepository personRepository;
+	@Autowired
+	private WeeklySummaryRepository weeklySummaryRepository;
+	@Autowired
+	private ViewreportRepository viewReportRepository;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Test
+	void benchmarkRepositoryMethods() {
+		TransactionTemplate tx = new TransactionTemplate(transactionManager);
+		TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+		readOnlyTx.setReadOnly(true);
+
+		String tag = "bench" + System.nanoTime();
+		Account account = new Account();
+		account.setAccountName(tag.substring(0, Math.min(tag.length(), 20)));
+		account = accountRepository.save(account);
+
+		Project project = new Project();
+		project.setProjectName(tag);
+		project.setAccount(account);
+		project = projectRepository.save(project);
+
+		Person person = new Person();
+		person.setFirstName(tag);
+		person.setLastName("Runner");
+		person.setEmail(tag + "@bench.local");
+		person.setEmployeeCode(tag);
+		person.setRole(Roles.EMPLOYEE);
+		person = personRepository.save(person);
+
+		WeeklySummary week = new WeeklySummary();
+		week.setWeekStartDate(LocalDate.now());
+		week.setWeekEndDate(LocalDate.now().plusDays(6));
+		week = weeklySummaryRepository.save(week);
+
+		List<Integer> reportIds = new ArrayList<>();
+		List<Integer> personIds = new ArrayList<>();
+		try {
+			Project benchProject = project;
+			Person benchPerson = person;
+			WeeklySummary benchWeek = week;
+
+			time("insert " + REPORT_ROWS + " reports with text collections", 1,
+					() -> tx.executeWithoutResult(status -> viewReportRepository
+							.saveAll(newReports(benchProject, benchPerson, benchWeek))
+							.forEach(r -> reportIds.add(r.getViewReportId()))));
+
+			time("searchPersonsByName page", ROUNDS,
+					() -> readOnlyTx.execute(status -> personRepository
+							.findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(tag, tag,
+									PageRequest.of(0, 20))));
+
+			time("active persons page", ROUNDS,
+					() -> readOnlyTx.execute(status -> personRepository.findByPersonStatusTrue(PageRequest.of(0, 50))));
+
+			time("active projects page", ROUNDS,
+					() -> readOnlyTx.execute(status -> projectRepository.findByProjectStatusTrue(PageRequest.of(0, 50))));
+
+			time("read all reports", 5,
+					() -> readOnlyTx.execute(status -> viewReportRepository.findAll().size()));
+
+			benchmarkFlush("report update", tx, () -> viewReportRepository.findAllById(reportIds),
+					report -> report.setTaskName(report.getTaskName() + "*"));
+
+			personRepository.saveAll(newPersons(tag)).forEach(p -> personIds.add(p.getPersonId()));
+			benchmarkFlush("person update", tx, () -> personRepository.findAllById(personIds),
+					p -> p.setFirstName(p.getFirstName() + "*"));
+		} finally {
+			viewReportRepository.deleteAllById(reportIds);
+			personRepository.deleteAllById(personIds);
+			weeklySummaryRepository.delete(week);
+			personRepository.delete(person);
+			projectRepository.delete(project);
+			accountRepository.delete(account);
+		}
+	}
+
+	private List<ViewReports> newReports(Project project, Person person, WeeklySummary week) {
+		List<ViewReports> reports = new ArrayList<>(REPORT_ROWS);
+		for (int i = 0; i < REPORT_ROWS; i++) {
+			ViewReports report = new ViewReports();
+			report.setTaskName("Benchmark task " + i);
+			report.setTaskStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+			report.setTaskStartDate(week.getWeekStartDate());
+			report.setTaskEndDate(week.getWeekEndDate());
+			report.setTask(new Task(List.of("summary " + i, "more detail " + i), List.of("accomplishment " + i)));
+			report.setComments(List.of("comment " + i));
+			report.setProject(project);
+			report.setPerson(person);
+			report.setWeeklySummary(week);
+			reports.add(report);
+		}
+		return reports;
+	}
+
+	private List<Person> newPersons(String tag) {
+		List<Person> persons = new ArrayList<>(PERSON_ROWS);
+		for (int i = 0; i < PERSON_ROWS; i++) {
+			Person person = new Person();
+			person.setFirstName("Bench" + i);
+			person.setLastName("Person");
+			person.setEmail(tag + "." + i + "@bench.local");
+			person.setEmployeeCode(tag + "-" + i);
+			person.setRole(Roles.EMPLOYEE);
+			persons.add(person);
+		}
+		return persons;
+	}
+
+	/**
+	 * Loads the entities into a fresh persistence context, modifies every
+	 * TOUCH_EVERY-th one and times the flush alone. Each round rolls back so
+	 * the data stays the same. Heap growth is measured around the load.
+	 */
+	private <T> void benchmarkFlush(String label, TransactionTemplate tx, Supplier<List<T>> loader,
+			Consumer<T> touch) {
+		long[] flushNanos = new long[1];
+		long[] heapBytes = new long[1];
+		int[] loaded = new int[1];
+		for (int round = 0; round < FLUSH_ROUNDS; round++) {
+			tx.executeWithoutResult(status -> {
+				long heapBefore = usedHeap();
+				List<T> entities = loader.get();
+				heapBytes[0] = usedHeap() - heapBefore;
+				loaded[0] = entities.size();
+				for (int i = 0; i < entities.size(); i += TOUCH_EVERY) {
+					touch.accept(entities.get(i));
+				}
+				long start = System.nanoTime();
+				entityManager.flush();
+				flushNanos[0] += System.nanoTime() - start;
+				status.setRollbackOnly();
+			});
+		}
+		logger.info("{}: flush of {} managed entities ({} modified) {} ms/round, ~{} bytes heap per entity", label,
+				loaded[0], (loaded[0] + TOUCH_EVERY - 1) / TOUCH_EVERY,
+				String.format("%.3f", flushNanos[0] / 1_000_000.0 / FLUSH_ROUNDS),
+				loaded[0] == 0 ? 0 : heapBytes[0] / loaded[0]);
+	}
+
+	private static long usedHeap() {
+		System.gc();
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private void time(String label, int rounds, Runnable action) {
+		for (int i = 0; i < Math.min(rounds, WARMUP_ROUNDS) && rounds > 1; i++) {
+			action.run();
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < rounds; i++) {
+			action.run();
+		}
+		double totalMillis = (System.nanoTime() - start) / 1_000_000.0;
+		logger.info("{}: {} round(s), total {} ms, {} ms/op", label, rounds, String.format("%.1f", totalMillis),
+				String.format("%.3f", totalMillis / rounds));
+	}
+}
@@ -0,0 +1,187 @@
+package com.qentelli.employeetrackingsystem.benchmark;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.qentelli.employeetrackingsystem.config.FlexibleEnumListDeserializer;
+import com.qentelli.employeetrackingsystem.config.JacksonConfig;
+import com.qentelli.employeetrackingsystem.config.ProtobufJacksonHttpMessageConverter;
+import com.qentelli.employeetrackingsystem.config.WebMvcConfig;
+import com.qentelli.employeetrackingsystem.entity.Roles;
+import com.qentelli.employeetrackingsystem.entity.TechStack;
+import com.qentelli.employeetrackingsystem.exception.RequestProcessStatus;
+import com.qentelli.employeetrackingsystem.models.client.request.PersonDTO;
+import com.qentelli.employeetrackingsystem.models.client.response.AuthResponse;
+import com.qentelli.employeetrackingsystem.models.client.response.PaginatedResponse;
+
+/**
+ * JMH comparison of the ways an AuthResponse&lt;PaginatedResponse&lt;PersonDTO&gt;&gt;
+ * page of 100 rows can be written and read through the HTTP message
+ * converters: the stock Spring JSON converter as a baseline, and the JSON,
+ * CBOR and protobuf converters the application registers. The application
+ * ones are built from a context holding only Boot's Jackson configuration
+ * and JacksonConfig, so spring.jackson.* and Blackbird apply as in the app.
+ * The encoded size of each format is logged once at setup. Skipped unless
+ * benchmark.jmh is set:
+ *
+ * <pre>
+ * mvn test -Dtest=SerializationBenchmark -Dbenchmark.jmh=true
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+	private static final Logger logger = LoggerFactory.getLogger(SerializationBenchmark.class);
+
+	private static final int ROWS = 100;
+	private static final Type ENVELOPE_TYPE = new ParameterizedTypeReference<AuthResponse<PaginatedResponse<PersonDTO>>>() {
+	}.getType();
+
+	public static class TechStackHolder {
+		@JsonDeserialize(using = FlexibleEnumListDeserializer.class)
+		public List<TechStack> techStack;
+	}
+
+	private ConfigurableApplicationContext context;
+	private ObjectMapper objectMapper;
+	private MappingJackson2HttpMessageConverter stockJsonConverter;
+	private MappingJackson2HttpMessageConverter jsonConverter;
+	private AbstractJackson2HttpMessageConverter cborConverter;
+	private ProtobufJacksonHttpMessageConverter protobufConverter;
+	private byte[] json;
+	private byte[] cbor;
+	private byte[] protobuf;
+	private AuthResponse<PaginatedResponse<PersonDTO>> page;
+	private byte[] techStackJson;
+
+	@Setup
+	public void setUp() throws IOException {
+		context = new SpringApplicationBuilder(JacksonAutoConfiguration.class, JacksonConfig.class)
+				.web(WebApplicationType.NONE).run();
+		objectMapper = context.getBean(ObjectMapper.class);
+		stockJsonConverter = new MappingJackson2HttpMessageConverter();
+		jsonConverter = context.getBean(MappingJackson2HttpMessageConverter.class);
+		cborConverter = WebMvcConfig.cborConverter(context.getBean(Jackson2ObjectMapperBuilder.class));
+		protobufConverter = WebMvcConfig.protobufConverter(context.getBean(Jackson2ObjectMapperBuilder.class));
+
+		List<PersonDTO> persons = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			persons.add(new PersonDTO(i, "First" + i, "Last" + i, "person" + i + "@example.com", "EMP" + i, null,
+					null, Roles.EMPLOYEE, true, TechStack.values()[i % TechStack.values().length],
+					List.of(i, i + 1, i + 2), List.of("Project " + i, "Project " + (i + 1), "Project " + (i + 2))));
+		}
+		page = new AuthResponse<>(HttpStatus.OK.value(), RequestProcessStatus.SUCCESS, LocalDateTime.now(),
+				"Persons fetched successfully", new PaginatedResponse<>(persons, 0, ROWS, 10_000, 100, false));
+
+		json = write(jsonConverter, MediaType.APPLICATION_JSON);
+		cbor = write(cborConverter, MediaType.APPLICATION_CBOR);
+		protobuf = write(protobufConverter, ProtobufJacksonHttpMessageConverter.APPLICATION_PROTOBUF);
+		logger.info("{} rows on the wire: json {} bytes, cbor {} bytes, protobuf {} bytes", ROWS, json.length,
+				cbor.length, protobuf.length);
+
+		techStackJson = "{\"techStack\":[\"frontend\",\"Backend\",\"FULLSTACK\",\"testing\"]}".getBytes();
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	private byte[] write(AbstractJackson2HttpMessageConverter converter, MediaType mediaType) throws IOException {
+		MockHttpOutputMessage out = new MockHttpOutputMessage();
+		converter.write(page, ENVELOPE_TYPE, mediaType, out);
+		return out.getBodyAsBytes();
+	}
+
+	private static Object read(AbstractJackson2HttpMessageConverter converter, byte[] body) throws IOException {
+		return converter.read(ENVELOPE_TYPE, null, new MockHttpInputMessage(body));
+	}
+
+	@Benchmark
+	public byte[] stockJsonWrite() throws IOException {
+		return write(stockJsonConverter, MediaType.APPLICATION_JSON);
+	}
+
+	@Benchmark
+	public byte[] jsonWrite() throws IOException {
+		return write(jsonConverter, MediaType.APPLICATION_JSON);
+	}
+
+	@Benchmark
+	public Object jsonRead() throws IOException {
+		return read(jsonConverter, json);
+	}
+
+	@Benchmark
+	public byte[] cborWrite() throws IOException {
+		return write(cborConverter, MediaType.APPLICATION_CBOR);
+	}
+
+	@Benchmark
+	public Object cborRead() throws IOException {
+		return read(cborConverter, cbor);
+	}
+
+	@Benchmark
+	public byte[] protobufWrite() throws IOException {
+		return write(protobufConverter, ProtobufJacksonHttpMessageConverter.APPLICATION_PROTOBUF);
+	}
+
+	@Benchmark
+	public Object protobufRead() throws IOException {
+		return read(protobufConverter, protobuf);
+	}
+
+	@Benchmark
+	public TechStackHolder readTechStackList() throws IOException {
+		return objectMapper.readValue(techStackJson, TechStackHolder.class);
+	}
+
+	@Test
+	@EnabledIfSystemProperty(named = "benchmark.jmh", matches = ".+")
+	void runBenchmarks() throws RunnerException {
+		new Runner(new OptionsBuilder().include(SerializationBenchmark.class.getSimpleName()).build()).run();
+	}
+}
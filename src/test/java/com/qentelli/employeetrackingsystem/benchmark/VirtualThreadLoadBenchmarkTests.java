@@ -0,0 +1,163 @@
+package com.qentelli.employeetrackingsystem.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.qentelli.employeetrackingsystem.config.JwtUtil;
+import com.qentelli.employeetrackingsystem.entity.Roles;
+import com.qentelli.employeetrackingsystem.entity.User;
+import com.qentelli.employeetrackingsystem.repository.UserRepository;
+
+/**
+ * Drives a JDBC-backed endpoint with a growing number of concurrent clients
+ * and logs throughput, p50 and p99 latency per level. Skipped unless
+ * benchmark.db.url is set. Run on Java 21 once with platform threads and once
+ * with the virtual-threads profile and compare the logged numbers:
+ *
+ * <pre>
+ * mvn -Pjava21 test -Dtest=VirtualThreadLoadBenchmarkTests -Dbenchmark.db.url=jdbc:postgresql://localhost:5432/ets_bench
+ * mvn -Pjava21 test -Dtest=VirtualThreadLoadBenchmarkTests -Dbenchmark.db.url=... -Dspring.profiles.active=virtual-threads
+ * </pre>
+ *
+ * Any jdk.VirtualThreadPinned warnings logged during the second run point at
+ * code that still blocks inside synchronized.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+		"spring.datasource.url=${benchmark.db.url}",
+		"spring.datasource.username=${benchmark.db.username:postgres}",
+		"spring.datasource.password=${benchmark.db.password:postgres}",
+		"spring.jpa.show-sql=false" })
+@EnabledIfSystemProperty(named = "benchmark.db.url", matches = ".+")
+class VirtualThreadLoadBenchmarkTests {
+
+	private static final Logger logger = LoggerFactory.getLogger(VirtualThreadLoadBenchmarkTests.class);
+
+	private static final int[] CONCURRENCY_LEVELS = { 50, 200, 500, 1000 };
+	private static final Duration WARMUP = Duration.ofSeconds(5);
+	private static final Duration MEASURE = Duration.ofSeconds(20);
+	private static final String PATH = "/Person/active?page=0&size=20";
+
+	@LocalServerPort
+	private int port;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+	@Autowired
+	private JwtUtil jwtUtil;
+	@Autowired
+	private Environment environment;
+
+	@Test
+	void benchmarkConcurrentRequests() throws Exception {
+		User user = new User();
+		String userName = "bench" + System.nanoTime() + "@bench.local";
+		user.setFirstName("Bench");
+		user.setLastName("Load");
+		user.setUserName(userName);
+		user.setEmployeeId(userName);
+		user.setPassword(passwordEncoder.encode("Bench@1234"));
+		user.setRoles(Roles.SUPERADMIN);
+		user = userRepository.save(user);
+
+		HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(10)).build();
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + PATH))
+				.header("Authorization", "Bearer " + jwtUtil.generateToken(userName))
+				.timeout(Duration.ofSeconds(60)).GET().build();
+		try {
+			String mode = environment.matchesProfiles("virtual-threads") ? "virtual threads" : "platform threads";
+			run(client, request, CONCURRENCY_LEVELS[0], WARMUP);
+			for (int concurrency : CONCURRENCY_LEVELS) {
+				Result result = run(client, request, concurrency, MEASURE);
+				logger.info("{}: {} clients, {} req/s, p50 {} ms, p99 {} ms, {} errors", mode, concurrency,
+						String.format("%.0f", result.completed / (double) MEASURE.toSeconds()),
+						String.format("%.1f", result.percentile(0.50)), String.format("%.1f", result.percentile(0.99)),
+						result.errors);
+			}
+		} finally {
+			userRepository.delete(user);
+		}
+	}
+
+	/** Closed loop: each client sends its next request as soon as the previous one returns. */
+	private static Result run(HttpClient client, HttpRequest request, int concurrency, Duration duration)
+			throws InterruptedException {
+		List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+		AtomicInteger errors = new AtomicInteger();
+		long deadline = System.nanoTime() + duration.toNanos();
+		CountDownLatch done = new CountDownLatch(concurrency);
+		ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+		for (int i = 0; i < concurrency; i++) {
+			clients.execute(() -> {
+				try {
+					while (System.nanoTime() < deadline) {
+						long start = System.nanoTime();
+						try {
+							HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+							if (response.statusCode() == 200) {
+								latencies.add(System.nanoTime() - start);
+							} else {
+								errors.incrementAndGet();
+							}
+						} catch (InterruptedException ex) {
+							Thread.currentThread().interrupt();
+							return;
+						} catch (Exception ex) {
+							errors.incrementAndGet();
+						}
+					}
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		done.await(duration.toSeconds() + 120, TimeUnit.SECONDS);
+		clients.shutdownNow();
+		return new Result(latencies, errors.get());
+	}
+
+	private static final class Result {
+		private final long[] sortedNanos;
+		private final int completed;
+		private final int errors;
+
+		Result(List<Long> latencies, int errors) {
+			synchronized (latencies) {
+				this.sortedNanos = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+			}
+			this.completed = sortedNanos.length;
+			this.errors = errors;
+		}
+
+		double percentile(double p) {
+			if (sortedNanos.length == 0) {
+				return 0;
+			}
+			int index = (int) Math.ceil(p * sortedNanos.length) - 1;
+			return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package com.qentelli.employeetrackingsystem.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.LazyInitializationException;
+import org.hibernate.collection.spi.PersistentBag;
+import org.hibernate.collection.spi.PersistentSet;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Uninitialized Hibernate collections without a session throw on any read,
+ * and the mocked associations fail on any call, so these tests fail if
+ * equals, hashCode or toString would have loaded anything.
+ */
+class EntityIdentityTests {
+
+	@Test
+	void uninitializedCollectionsReallyThrowWhenRead() {
+		assertThatThrownBy(() -> new PersistentBag<Project>().size())
+				.isInstanceOf(LazyInitializationException.class);
+	}
+
+	@Test
+	void accountDoesNotTouchItsProjects() {
+		Account account = new Account();
+		account.setAccountId(1);
+		account.setAccountName("Acme");
+		account.setProjects(new PersistentBag<>());
+
+		Account other = new Account();
+		other.setAccountId(1);
+		assertLazySafe(account, other);
+	}
+
+	@Test
+	void projectDoesNotTouchItsAccount() {
+		Project project = new Project();
+		project.setProjectId(2);
+		project.setProjectName("Portal");
+		project.setAccount(untouchable(Account.class));
+
+		Project other = new Project();
+		other.setProjectId(2);
+		assertLazySafe(project, other);
+	}
+
+	@Test
+	void personDoesNotTouchItsProjects() {
+		Person person = new Person();
+		person.setPersonId(3);
+		person.setFirstName("Jane");
+		person.setPassword("secret");
+		person.setProjects(new PersistentSet<>());
+
+		Person other = new Person();
+		other.setPersonId(3);
+		assertLazySafe(person, other);
+		assertThat(person.toString()).doesNotContain("secret");
+	}
+
+	@Test
+	void userDoesNotPrintItsPassword() {
+		User user = new User("jdoe", "secret", "Jane", "Doe", "E-1");
+		user.setId(4);
+
+		User other = new User();
+		other.setId(4);
+		assertLazySafe(user, other);
+		assertThat(user.toString()).doesNotContain("secret");
+	}
+
+	@Test
+	void viewReportDoesNotTouchItsAssociations() {
+		ViewReports report = new ViewReports();
+		report.setViewReportId(5);
+		report.setTaskName("Build");
+		report.setComments(new PersistentBag<>());
+		report.setProject(untouchable(Project.class));
+		report.setPerson(untouchable(Person.class));
+		report.setWeeklySummary(untouchable(WeeklySummary.class));
+
+		ViewReports other = new ViewReports();
+		other.setViewReportId(5);
+		assertLazySafe(report, other);
+	}
+
+	@Test
+	void weeklySummaryDoesNotTouchItsCollections() {
+		WeeklySummary summary = new WeeklySummary();
+		summary.setWeekId(6);
+		summary.setUpcomingTasks(new PersistentBag<>());
+		summary.setListProject(new PersistentSet<>());
+
+		WeeklySummary other = new WeeklySummary();
+		other.setWeekId(6);
+		assertLazySafe(summary, other);
+	}
+
+	@Test
+	void hashCodeIsStableAcrossPersistAndTransientInstancesAreDistinct() {
+		Project project = new Project();
+		Set<Project> projects = new HashSet<>();
+		projects.add(project);
+
+		project.setProjectId(10); // what persist does
+		assertThat(projects).contains(project);
+
+		assertThat(new Project()).isNotEqualTo(new Project());
+		Project otherWithDifferentId = new Project();
+		otherWithDifferentId.setProjectId(11);
+		assertThat(project).isNotEqualTo(otherWithDifferentId);
+	}
+
+	private static void assertLazySafe(Object entity, Object sameIdentity) {
+		assertThat(entity.toString()).isNotBlank();
+		assertThat(entity.hashCode()).isEqualTo(sameIdentity.hashCode());
+		assertThat(entity).isEqualTo(sameIdentity);
+		assertThat(sameIdentity).isEqualTo(entity);
+	}
+
+	private static <T> T untouchable(Class<T> type) {
+		return mock(type, invocation -> {
+			throw new AssertionError("Lazy association touched: " + invocation.getMethod().getName());
+		});
+	}
+}
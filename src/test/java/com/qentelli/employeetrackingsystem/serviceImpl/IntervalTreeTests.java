@@ -0,0 +1,59 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the tree against a plain scan over random intervals, including
+ * open-ended ones and queries touching interval bounds.
+ */
+class IntervalTreeTests {
+
+	private record Interval(int id, long start, long end) {
+		boolean overlaps(long from, long to) {
+			return start <= to && end >= from;
+		}
+	}
+
+	@Test
+	void matchesLinearScanInStartOrder() {
+		Random random = new Random(42);
+		List<Interval> intervals = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			long start = random.nextInt(365);
+			long end = random.nextInt(10) == 0 ? Long.MAX_VALUE : start + random.nextInt(30);
+			intervals.add(new Interval(i, start, end));
+		}
+		IntervalTree<Interval> tree = new IntervalTree<>(intervals, Interval::start, Interval::end,
+				Comparator.comparingInt(Interval::id));
+		List<Interval> sorted = intervals.stream()
+				.sorted(Comparator.comparingLong(Interval::start).thenComparingInt(Interval::id)).toList();
+
+		for (int q = 0; q < 200; q++) {
+			long from = random.nextInt(400) - 10;
+			long to = from + random.nextInt(20);
+			List<Interval> expected = sorted.stream().filter(interval -> interval.overlaps(from, to)).toList();
+			assertThat(tree.overlapping(from, to, interval -> true)).containsExactlyElementsOf(expected);
+		}
+	}
+
+	@Test
+	void boundsAreInclusiveAndFilterApplies() {
+		IntervalTree<Interval> tree = new IntervalTree<>(
+				List.of(new Interval(1, 10, 20), new Interval(2, 21, 21), new Interval(3, 5, 9)), Interval::start,
+				Interval::end, Comparator.comparingInt(Interval::id));
+
+		assertThat(tree.overlapping(20, 21, interval -> true)).extracting(Interval::id).containsExactly(1, 2);
+		assertThat(tree.overlapping(9, 10, interval -> interval.id() != 3)).extracting(Interval::id)
+				.containsExactly(1);
+		assertThat(tree.overlapping(22, 30, interval -> true)).isEmpty();
+		assertThat(new IntervalTree<Interval>(List.of(), Interval::start, Interval::end,
+				Comparator.comparingInt(Interval::id)).overlapping(0, 1, interval -> true)).isEmpty();
+	}
+}
@@ -0,0 +1,107 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+
+import com.qentelli.employeetrackingsystem.entity.Person;
+import com.qentelli.employeetrackingsystem.models.client.request.PersonDTO;
+import com.qentelli.employeetrackingsystem.repository.PersonRepository;
+import com.qentelli.employeetrackingsystem.repository.ProjectRepository;
+
+/**
+ * Each link/unlink repository call is one join-table statement, so these
+ * verify how many statements an update issues.
+ */
+@ExtendWith(MockitoExtension.class)
+class PersonServiceTests {
+
+	private static final Integer PERSON_ID = 7;
+
+	@Mock
+	private PersonRepository personRepo;
+	@Mock
+	private ProjectRepository projectRepo;
+	@Mock
+	private AccountSummaryService accountSummaryService;
+	@Mock
+	private ReportOverlapService reportOverlapService;
+	@Spy
+	private ModelMapper modelMapper = new ModelMapper();
+
+	@InjectMocks
+	private PersonService personService;
+
+	@BeforeEach
+	void setUp() {
+		Person person = new Person();
+		person.setPersonId(PERSON_ID);
+		lenient().when(personRepo.findById(PERSON_ID)).thenReturn(Optional.of(person));
+		lenient().when(personRepo.save(any(Person.class))).thenAnswer(invocation -> invocation.getArgument(0));
+	}
+
+	@Test
+	void updateWithUnchangedProjectsWritesNoJoinRows() {
+		when(personRepo.findProjectIdsByPersonId(PERSON_ID)).thenReturn(List.of(1, 2, 3));
+
+		personService.update(PERSON_ID, request(List.of(3, 2, 1)));
+
+		verify(personRepo, never()).linkProjects(anyCollection(), anyCollection());
+		verify(personRepo, never()).unlinkProjects(anyCollection(), anyCollection());
+	}
+
+	@Test
+	void updateWritesOnlyTheDelta() {
+		when(personRepo.findProjectIdsByPersonId(PERSON_ID)).thenReturn(List.of(1, 2, 3));
+
+		personService.update(PERSON_ID, request(List.of(2, 3, 4, 5)));
+
+		verify(personRepo, times(1)).unlinkProjects(List.of(PERSON_ID), List.of(1));
+		verify(personRepo, times(1)).linkProjects(List.of(PERSON_ID), List.of(4, 5));
+	}
+
+	@Test
+	void updateWithoutProjectIdsLeavesLinksAlone() {
+		personService.update(PERSON_ID, request(null));
+
+		verify(personRepo, never()).findProjectIdsByPersonId(PERSON_ID);
+		verify(personRepo, never()).linkProjects(anyCollection(), anyCollection());
+		verify(personRepo, never()).unlinkProjects(anyCollection(), anyCollection());
+	}
+
+	@Test
+	void tagProjectsIssuesOneInsertWithoutLoadingThePerson() {
+		when(personRepo.existsById(PERSON_ID)).thenReturn(true);
+
+		personService.tagProjectsToEmployee(PERSON_ID, List.of(4, 5));
+
+		verify(personRepo, times(1)).linkProjects(List.of(PERSON_ID), List.of(4, 5));
+		verify(personRepo, never()).save(any(Person.class));
+	}
+
+	private static PersonDTO request(List<Integer> projectIds) {
+		PersonDTO dto = new PersonDTO();
+		dto.setFirstName("Jane");
+		dto.setLastName("Doe");
+		dto.setEmail("jane.doe@example.com");
+		dto.setEmployeeCode("E-7");
+		dto.setProjectIds(projectIds);
+		return dto;
+	}
+}
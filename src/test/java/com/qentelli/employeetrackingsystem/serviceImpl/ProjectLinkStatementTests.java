@@ -0,0 +1,256 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.qentelli.employeetrackingsystem.entity.Account;
+import com.qentelli.employeetrackingsystem.entity.Person;
+import com.qentelli.employeetrackingsystem.entity.Project;
+import com.qentelli.employeetrackingsystem.entity.Roles;
+import com.qentelli.employeetrackingsystem.entity.WeeklySummary;
+import com.qentelli.employeetrackingsystem.models.client.request.PersonDTO;
+import com.qentelli.employeetrackingsystem.models.client.request.WeeklySummaryRequest;
+import com.qentelli.employeetrackingsystem.repository.AccountCounterRepository;
+import com.qentelli.employeetrackingsystem.repository.AccountRepository;
+import com.qentelli.employeetrackingsystem.repository.PersonRepository;
+import com.qentelli.employeetrackingsystem.repository.ProjectRepository;
+import com.qentelli.employeetrackingsystem.repository.WeeklySummaryRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Counts the SQL Hibernate actually sends to PostgreSQL for person and weekly
+ * summary updates, so a regression to bag semantics (delete all join rows,
+ * re-insert all) fails here rather than only in production. Skipped unless
+ * jpa.test.db.url is set:
+ *
+ * <pre>
+ * mvn test -Dtest=ProjectLinkStatementTests -Djpa.test.db.url=jdbc:postgresql://localhost:5432/ets_test
+ * </pre>
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=${jpa.test.db.url}",
+		"spring.datasource.username=${jpa.test.db.username:postgres}",
+		"spring.datasource.password=${jpa.test.db.password:postgres}",
+		"spring.jpa.show-sql=false",
+		"spring.jpa.properties.hibernate.generate_statistics=true" })
+@EnabledIfSystemProperty(named = "jpa.test.db.url", matches = ".+")
+class ProjectLinkStatementTests {
+
+	@TestConfiguration
+	static class StatementRecording {
+
+		@Bean
+		RecordingInspector recordingInspector() {
+			return new RecordingInspector();
+		}
+
+		@Bean
+		HibernatePropertiesCustomizer statementInspectorCustomizer(RecordingInspector inspector) {
+			return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+		}
+	}
+
+	/** Keeps every statement Hibernate prepares, native queries included. */
+	static class RecordingInspector implements StatementInspector {
+
+		private final List<String> statements = new ArrayList<>();
+
+		@Override
+		public synchronized String inspect(String sql) {
+			statements.add(sql);
+			return sql;
+		}
+
+		synchronized void clear() {
+			statements.clear();
+		}
+
+		synchronized long count(Pattern pattern) {
+			return statements.stream().filter(sql -> pattern.matcher(sql).find()).count();
+		}
+	}
+
+	@Autowired
+	private PersonService personService;
+	@Autowired
+	private WeeklySummaryService weeklySummaryService;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private AccountCounterRepository accountCounterRepository;
+	@Autowired
+	private ProjectRepository projectRepository;
+	@Autowired
+	private PersonRepository personRepository;
+	@Autowired
+	private WeeklySummaryRepository weeklySummaryRepository;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private RecordingInspector inspector;
+
+	private Account account;
+	private final List<Project> projects = new ArrayList<>();
+	private Person person;
+	private WeeklySummary week;
+
+	@BeforeEach
+	void seed() {
+		String tag = "links" + System.nanoTime();
+		account = new Account();
+		account.setAccountName(tag.substring(0, Math.min(tag.length(), 20)));
+		account = accountRepository.save(account);
+
+		for (int i = 0; i < 3; i++) {
+			Project project = new Project();
+			project.setProjectName(tag + "-" + i);
+			project.setAccount(account);
+			projects.add(projectRepository.save(project));
+		}
+
+		person = new Person();
+		person.setFirstName(tag);
+		person.setLastName("Links");
+		person.setEmail(tag + "@test.local");
+		person.setEmployeeCode(tag);
+		person.setRole(Roles.EMPLOYEE);
+		person = personRepository.save(person);
+
+		week = new WeeklySummary();
+		week.setWeekStartDate(LocalDate.now());
+		week.setWeekEndDate(LocalDate.now().plusDays(6));
+		week.setUpcomingTasks(new ArrayList<>(List.of("next")));
+		week = weeklySummaryRepository.save(week);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		weeklySummaryRepository.deleteById(week.getWeekId());
+		personRepository.deleteById(person.getPersonId());
+		projectRepository.deleteAll(projects);
+		new TransactionTemplate(transactionManager)
+				.executeWithoutResult(status -> accountCounterRepository.deleteCounters(account.getAccountId()));
+		accountRepository.delete(account);
+	}
+
+	@Test
+	void personUpdateWritesOnlyTheChangedLinks() {
+		Pattern insert = joinTableWrite("insert into", "person_project");
+		Pattern delete = joinTableWrite("delete from", "person_project");
+		String role = Person.class.getName() + ".projects";
+
+		personService.update(person.getPersonId(), personRequest(ids(0, 1)));
+
+		Statistics statistics = reset();
+		personService.update(person.getPersonId(), personRequest(ids(0, 1)));
+		assertThat(inspector.count(insert)).isZero();
+		assertThat(inspector.count(delete)).isZero();
+		assertNoCollectionRewrite(statistics, role);
+
+		statistics = reset();
+		personService.update(person.getPersonId(), personRequest(ids(0, 1, 2)));
+		assertThat(inspector.count(insert)).isEqualTo(1);
+		assertThat(inspector.count(delete)).isZero();
+		assertNoCollectionRewrite(statistics, role);
+
+		statistics = reset();
+		personService.update(person.getPersonId(), personRequest(ids(1, 2)));
+		assertThat(inspector.count(insert)).isZero();
+		assertThat(inspector.count(delete)).isEqualTo(1);
+		assertNoCollectionRewrite(statistics, role);
+	}
+
+	@Test
+	void summaryUpdateWritesOnlyTheChangedLinks() {
+		Pattern insert = joinTableWrite("insert into", "weekly_summary_project");
+		Pattern delete = joinTableWrite("delete from", "weekly_summary_project");
+		String role = WeeklySummary.class.getName() + ".listProject";
+
+		weeklySummaryService.updateSummary(summaryRequest(ids(0, 1)));
+
+		Statistics statistics = reset();
+		weeklySummaryService.updateSummary(summaryRequest(ids(0, 1)));
+		assertThat(inspector.count(insert)).isZero();
+		assertThat(inspector.count(delete)).isZero();
+		assertNoCollectionRewrite(statistics, role);
+
+		statistics = reset();
+		weeklySummaryService.updateSummary(summaryRequest(ids(0, 2)));
+		assertThat(inspector.count(insert)).isEqualTo(1);
+		assertThat(inspector.count(delete)).isEqualTo(1);
+		assertNoCollectionRewrite(statistics, role);
+	}
+
+	private Statistics reset() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		inspector.clear();
+		return statistics;
+	}
+
+	// Per role: updateSummary legitimately replaces the upcomingTasks element collection
+	private static void assertNoCollectionRewrite(Statistics statistics, String role) {
+		CollectionStatistics links = statistics.getCollectionStatistics(role);
+		assertThat(links.getRecreateCount()).isZero();
+		assertThat(links.getRemoveCount()).isZero();
+		assertThat(links.getUpdateCount()).isZero();
+	}
+
+	// Statements that write the join table itself; the account counter refresh only reads it
+	private static Pattern joinTableWrite(String verb, String table) {
+		return Pattern.compile("^\\s*" + verb + "\\s+" + table + "\\b", Pattern.CASE_INSENSITIVE);
+	}
+
+	private List<Integer> ids(int... indexes) {
+		List<Integer> ids = new ArrayList<>();
+		for (int index : indexes) {
+			ids.add(projects.get(index).getProjectId());
+		}
+		return ids;
+	}
+
+	private PersonDTO personRequest(List<Integer> projectIds) {
+		PersonDTO dto = new PersonDTO();
+		dto.setFirstName(person.getFirstName());
+		dto.setLastName(person.getLastName());
+		dto.setEmail(person.getEmail());
+		dto.setEmployeeCode(person.getEmployeeCode());
+		dto.setRole(person.getRole());
+		dto.setProjectIds(projectIds);
+		return dto;
+	}
+
+	private WeeklySummaryRequest summaryRequest(List<Integer> projectIds) {
+		WeeklySummaryRequest request = new WeeklySummaryRequest();
+		request.setWeekId(week.getWeekId());
+		request.setWeekStartDate(week.getWeekStartDate());
+		request.setWeekEndDate(week.getWeekEndDate());
+		request.setUpcomingTasks(new ArrayList<>(week.getUpcomingTasks()));
+		request.setProjectIds(projectIds);
+		return request;
+	}
+}
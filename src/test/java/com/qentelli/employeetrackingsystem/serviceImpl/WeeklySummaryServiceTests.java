@@ -0,0 +1,78 @@
+package com.qentelli.employeetrackingsystem.serviceImpl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.qentelli.employeetrackingsystem.entity.WeeklySummary;
+import com.qentelli.employeetrackingsystem.models.client.request.WeeklySummaryRequest;
+import com.qentelli.employeetrackingsystem.repository.ProjectRepository;
+import com.qentelli.employeetrackingsystem.repository.WeeklySummaryRepository;
+
+@ExtendWith(MockitoExtension.class)
+class WeeklySummaryServiceTests {
+
+	private static final Integer WEEK_ID = 11;
+
+	@Mock
+	private WeeklySummaryRepository weeklySummaryRepository;
+	@Mock
+	private ProjectRepository projectRepository;
+
+	@InjectMocks
+	private WeeklySummaryService weeklySummaryService;
+
+	@BeforeEach
+	void setUp() {
+		WeeklySummary summary = new WeeklySummary();
+		summary.setWeekId(WEEK_ID);
+		when(weeklySummaryRepository.findById(WEEK_ID)).thenReturn(Optional.of(summary));
+		when(weeklySummaryRepository.save(any(WeeklySummary.class))).thenAnswer(invocation -> invocation.getArgument(0));
+	}
+
+	@Test
+	void updateWithUnchangedProjectsWritesNoJoinRows() {
+		when(projectRepository.findExistingIds(List.of(1, 2))).thenReturn(List.of(1, 2));
+		when(weeklySummaryRepository.findProjectIdsByWeekId(WEEK_ID)).thenReturn(List.of(2, 1));
+
+		weeklySummaryService.updateSummary(request(List.of(1, 2)));
+
+		verify(weeklySummaryRepository, never()).linkProjects(anyInt(), anyCollection());
+		verify(weeklySummaryRepository, never()).unlinkProjects(anyInt(), anyCollection());
+	}
+
+	@Test
+	void updateWritesOnlyTheDelta() {
+		when(projectRepository.findExistingIds(List.of(2, 3))).thenReturn(List.of(2, 3));
+		when(weeklySummaryRepository.findProjectIdsByWeekId(WEEK_ID)).thenReturn(List.of(1, 2));
+
+		weeklySummaryService.updateSummary(request(List.of(2, 3)));
+
+		verify(weeklySummaryRepository, times(1)).unlinkProjects(WEEK_ID, List.of(1));
+		verify(weeklySummaryRepository, times(1)).linkProjects(WEEK_ID, List.of(3));
+	}
+
+	private static WeeklySummaryRequest request(List<Integer> projectIds) {
+		WeeklySummaryRequest request = new WeeklySummaryRequest();
+		request.setWeekId(WEEK_ID);
+		request.setWeekStartDate(LocalDate.of(2025, 6, 2));
+		request.setWeekEndDate(LocalDate.of(2025, 6, 6));
+		request.setProjectIds(projectIds);
+		return request;
+	}
+}